@@ -0,0 +1,126 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cef.benchmarks.SyntheticResources;
+
+/**
+ * {@link HTMLApp#extractResources()} from a synthetic classpath into an install directory where the given
+ * fraction of resources is out of date. Every invocation starts from the same installed state, so this
+ * measures single shot latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ExtractResourcesBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    int resourceCount;
+
+    // 1.0 is a first run: nothing is installed yet
+    @Param({ "0.0", "0.01", "0.1", "1.0" })
+    double changeRatio;
+
+    Path classpathRoot;
+    Path installPath;
+    ClassLoader resourceClassLoader;
+    ProjectResourceHashes projectResourceHashes;
+    ProjectResourceHashes installedHashes;
+    HTMLApp htmlApp;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        classpathRoot = Files.createTempDirectory("quarkus-cef-classpath");
+        SortedMap<String, Path> resourceToFileMap = SyntheticResources.writeTree(classpathRoot, resourceCount,
+                resourceCount);
+        Map<String, String> resourceToHashMap = new HashMap<>();
+        resourceToFileMap.forEach((resource, file) -> resourceToHashMap.put(resource, SyntheticResources.hash(file)));
+        projectResourceHashes = new ProjectResourceHashes(resourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(resourceToHashMap));
+        // Pretend the installed version differs in changeRatio of the resources
+        Map<String, String> installedResourceToHashMap = SyntheticResources.changeHashes(resourceToHashMap,
+                changeRatio, resourceCount);
+        installedHashes = new ProjectResourceHashes(installedResourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(installedResourceToHashMap));
+        resourceClassLoader = new StrippingClassLoader(new URL[] { classpathRoot.toUri().toURL() });
+
+        installPath = Files.createTempDirectory("quarkus-cef-install");
+        htmlApp = new HTMLApp();
+        htmlApp.cefMetrics = new NoopCefMetrics();
+        htmlApp.transformedProjectResources = new TransformedProjectResources(Set.of());
+        htmlApp.projectResourceHashes = projectResourceHashes;
+        htmlApp.installPath = installPath;
+        htmlApp.appResourcesDirectory = installPath.resolve("app-resources");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetInstallDirectory() throws IOException {
+        SyntheticResources.deleteRecursively(htmlApp.appResourcesDirectory);
+        Files.createDirectories(htmlApp.appResourcesDirectory);
+        Path manifestPath = installPath.resolve(htmlApp.QUARKUS_CEF_RESOURCE_MANIFEST_FILE);
+        if (changeRatio >= 1.0) {
+            Files.deleteIfExists(manifestPath);
+        } else {
+            ResourceManifest.write(manifestPath, installedHashes);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticResources.deleteRecursively(classpathRoot);
+        SyntheticResources.deleteRecursively(installPath);
+    }
+
+    @Benchmark
+    public void extractResources() {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(resourceClassLoader);
+        try {
+            htmlApp.extractResources();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /**
+     * Resource paths start with "/", which the Quarkus class loader accepts but a plain {@link URLClassLoader}
+     * does not.
+     */
+    private static final class StrippingClassLoader extends URLClassLoader {
+        StrippingClassLoader(URL[] urls) {
+            super(urls, null);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            return super.getResourceAsStream(name.startsWith("/") ? name.substring(1) : name);
+        }
+    }
+}
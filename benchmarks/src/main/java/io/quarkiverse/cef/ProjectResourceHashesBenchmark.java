@@ -0,0 +1,78 @@
+package io.quarkiverse.cef;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cef.benchmarks.SyntheticResources;
+
+/**
+ * Diffing the resources of two versions, computing the aggregate hash of a version, and creating the
+ * hashes of a version at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectResourceHashesBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    int resourceCount;
+
+    @Param({ "0.0", "0.01", "0.5" })
+    double changeRatio;
+
+    Map<String, String> oldResourceToHashMap;
+    ProjectResourceHashes oldHashes;
+    Map<String, String> newResourceToHashMap;
+    ProjectResourceHashes newHashes;
+    byte[] recordedManifest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        oldResourceToHashMap = SyntheticResources.randomHashes(resourceCount, resourceCount);
+        newResourceToHashMap = SyntheticResources.changeHashes(oldResourceToHashMap, changeRatio, resourceCount);
+        oldHashes = new ProjectResourceHashes(oldResourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(oldResourceToHashMap));
+        newHashes = new ProjectResourceHashes(newResourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(newResourceToHashMap));
+        recordedManifest = RecordedResourceManifest.toBytes(newResourceToHashMap);
+    }
+
+    @Benchmark
+    public Collection<String> getChangedResources() {
+        return newHashes.getChangedResources(oldHashes);
+    }
+
+    @Benchmark
+    public String computeAggregateHash() {
+        return ProjectResourceHashes.computeAggregateHash(newResourceToHashMap);
+    }
+
+    @Benchmark
+    public ProjectResourceHashes createFromRecordedMap() {
+        return new ProjectResourceHashes(newResourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(newResourceToHashMap));
+    }
+
+    @Benchmark
+    public ProjectResourceHashes readRecordedManifest() {
+        // What the recorded supplier does on first use
+        return RecordedResourceManifest.fromBytes(ByteBuffer.wrap(recordedManifest));
+    }
+}
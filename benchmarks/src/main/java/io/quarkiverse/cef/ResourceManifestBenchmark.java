@@ -0,0 +1,84 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cef.benchmarks.SyntheticResources;
+
+/**
+ * Reading and writing the manifest of installed resources, which replaced the text resource hashes file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceManifestBenchmark {
+    @Param({ "1000", "10000", "100000" })
+    int resourceCount;
+
+    ProjectResourceHashes projectResourceHashes;
+    byte[] manifest;
+    Path directory;
+    Path manifestPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Map<String, String> resourceToHashMap = SyntheticResources.randomHashes(resourceCount, resourceCount);
+        projectResourceHashes = new ProjectResourceHashes(resourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(resourceToHashMap));
+        manifest = ResourceManifest.toBytes(projectResourceHashes);
+        directory = Files.createTempDirectory("quarkus-cef-manifest");
+        manifestPath = directory.resolve("manifest");
+        ResourceManifest.write(manifestPath, projectResourceHashes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticResources.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return ResourceManifest.toBytes(projectResourceHashes);
+    }
+
+    @Benchmark
+    public ProjectResourceHashes fromBytes() {
+        return ResourceManifest.fromBytes(ByteBuffer.wrap(manifest));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        ResourceManifest.write(manifestPath, projectResourceHashes);
+    }
+
+    @Benchmark
+    public ProjectResourceHashes read() throws IOException {
+        return ResourceManifest.read(manifestPath);
+    }
+
+    @Benchmark
+    public boolean hasAggregateDigest() throws IOException {
+        return ResourceManifest.hasAggregateDigest(manifestPath, projectResourceHashes.aggregateDigest);
+    }
+}
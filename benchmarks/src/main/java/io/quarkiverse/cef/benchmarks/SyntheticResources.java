@@ -0,0 +1,192 @@
+package io.quarkiverse.cef.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Generates synthetic project resource trees for benchmarks. Everything is derived from a seed, so
+ * every run of a benchmark sees the same tree.
+ */
+public final class SyntheticResources {
+    public static final String RESOURCE_ROOT = "/ui";
+    private static final int DIGEST_LENGTH = 64;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String[] EXTENSIONS = { ".js", ".css", ".html", ".json", ".svg", ".png", ".woff2" };
+    private static final int FILES_PER_DIRECTORY = 64;
+
+    private SyntheticResources() {
+    }
+
+    /**
+     * @return The resource path of the index-th synthetic resource, spread over nested directories like a
+     *         typical front end build output.
+     */
+    public static String getResource(int index) {
+        int directory = index / FILES_PER_DIRECTORY;
+        return RESOURCE_ROOT + "/assets/" + (directory % 16) + "/" + directory + "/file-" + index
+                + EXTENSIONS[index % EXTENSIONS.length];
+    }
+
+    /**
+     * Draw a file size: mostly small files, some medium ones and a few large bundles or images.
+     */
+    public static int getFileSize(Random random) {
+        int bucket = random.nextInt(100);
+        if (bucket < 70) {
+            return 512 + random.nextInt(4 * 1024);
+        } else if (bucket < 95) {
+            return 4 * 1024 + random.nextInt(60 * 1024);
+        } else {
+            return 64 * 1024 + random.nextInt(960 * 1024);
+        }
+    }
+
+    /**
+     * Write resourceCount files of varying sizes under root, laid out as they would be on the classpath.
+     *
+     * @return Every resource path, mapped to its file.
+     */
+    public static SortedMap<String, Path> writeTree(Path root, int resourceCount, long seed) {
+        Random random = new Random(seed);
+        SortedMap<String, Path> resourceToFileMap = new TreeMap<>();
+        for (int i = 0; i < resourceCount; i++) {
+            String resource = getResource(i);
+            byte[] contents = new byte[getFileSize(random)];
+            random.nextBytes(contents);
+            Path file = root.resolve(resource.substring(1));
+            try {
+                Files.createDirectories(file.getParent());
+                Files.write(file, contents);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            resourceToFileMap.put(resource, file);
+        }
+        return resourceToFileMap;
+    }
+
+    /**
+     * Rewrite the given fraction of files in the tree with new contents of the same size.
+     */
+    public static void changeTree(SortedMap<String, Path> resourceToFileMap, double changeRatio, long seed) {
+        Random random = new Random(seed);
+        for (Path file : resourceToFileMap.values()) {
+            if (random.nextDouble() < changeRatio) {
+                try {
+                    byte[] contents = Files.readAllBytes(file);
+                    random.nextBytes(contents);
+                    Files.write(file, contents);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Random SHA-512 hex digests for resourceCount resources, without touching the disk.
+     */
+    public static Map<String, String> randomHashes(int resourceCount, long seed) {
+        Random random = new Random(seed);
+        Map<String, String> resourceToHashMap = new HashMap<>();
+        for (int i = 0; i < resourceCount; i++) {
+            resourceToHashMap.put(getResource(i), randomHash(random));
+        }
+        return resourceToHashMap;
+    }
+
+    /**
+     * Return a copy of resourceToHashMap where the given fraction of resources changed. Of the changed
+     * resources, a tenth are removed and as many new resources are added; the rest get a new digest.
+     */
+    public static Map<String, String> changeHashes(Map<String, String> resourceToHashMap, double changeRatio,
+            long seed) {
+        Random random = new Random(seed);
+        Map<String, String> out = new HashMap<>(resourceToHashMap);
+        List<String> resources = new ArrayList<>(new TreeMap<>(resourceToHashMap).keySet());
+        int nextIndex = resources.size();
+        for (String resource : resources) {
+            if (random.nextDouble() >= changeRatio) {
+                continue;
+            }
+            int kind = random.nextInt(10);
+            if (kind == 0) {
+                out.remove(resource);
+            } else if (kind == 1) {
+                out.put(getResource(nextIndex++), randomHash(random));
+            } else {
+                out.put(resource, randomHash(random));
+            }
+        }
+        return out;
+    }
+
+    public static String hash(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-512");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+            return toHex(messageDigest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void deleteRecursively(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                    Files.delete(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String randomHash(Random random) {
+        byte[] digest = new byte[DIGEST_LENGTH];
+        random.nextBytes(digest);
+        return toHex(digest);
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            out[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            out[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.cef.benchmarks.SyntheticResources;
+
+/**
+ * Build time hashing of project resources: a single file, a whole tree on a clean build, and a whole
+ * tree on an incremental build where {@link ResourceHashCache} can reuse hashes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceHashingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SingleFile {
+        @Param({ "1024", "65536", "1048576", "16777216" })
+        int fileSize;
+
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            byte[] contents = new byte[fileSize];
+            new Random(fileSize).nextBytes(contents);
+            file = Files.createTempFile("quarkus-cef-hash", ".bin");
+            Files.write(file, contents);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Tree {
+        @Param({ "1000", "10000", "100000" })
+        int resourceCount;
+
+        Path root;
+        Path cacheFile;
+        SortedMap<String, Path> resourceToFileMap;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            root = Files.createTempDirectory("quarkus-cef-hash-tree");
+            resourceToFileMap = SyntheticResources.writeTree(root, resourceCount, resourceCount);
+            cacheFile = root.resolve("hash-cache");
+            ResourceHashCache resourceHashCache = ResourceHashCache.load(cacheFile);
+            resourceToFileMap.values().forEach(resourceHashCache::getHash);
+            resourceHashCache.save(resourceToFileMap.values());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            SyntheticResources.deleteRecursively(root);
+        }
+    }
+
+    @Benchmark
+    public String hashFile(SingleFile singleFile) throws IOException {
+        return ResourceHashCache.calculateHash(singleFile.file);
+    }
+
+    @Benchmark
+    public Map<String, String> hashTreeClean(Tree tree) {
+        ResourceHashCache resourceHashCache = ResourceHashCache.load(tree.root.resolve("missing-hash-cache"));
+        return hashTree(tree, resourceHashCache);
+    }
+
+    @Benchmark
+    public Map<String, String> hashTreeIncremental(Tree tree) {
+        return hashTree(tree, ResourceHashCache.load(tree.cacheFile));
+    }
+
+    // The same as CefProcessor.hashProjectResources
+    private static Map<String, String> hashTree(Tree tree, ResourceHashCache resourceHashCache) {
+        return tree.resourceToFileMap.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> resourceHashCache.getHash(entry.getValue())));
+    }
+}
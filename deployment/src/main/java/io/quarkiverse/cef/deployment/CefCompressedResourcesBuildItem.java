@@ -0,0 +1,26 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.file.Path;
+import java.util.SortedMap;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The gzip compressed variants of project resources generated when quarkus.cef.compress-resources and
+ * quarkus.cef.pack-resources are enabled. They replace the originals in the resource archive.
+ */
+public final class CefCompressedResourcesBuildItem extends SimpleBuildItem {
+    private final SortedMap<String, Path> resourceToCompressedFileMap;
+
+    public CefCompressedResourcesBuildItem(SortedMap<String, Path> resourceToCompressedFileMap) {
+        this.resourceToCompressedFileMap = resourceToCompressedFileMap;
+    }
+
+    /**
+     * @return The file containing the compressed variant of each compressed project resource,
+     *         keyed by the project resource.
+     */
+    public SortedMap<String, Path> getResourceToCompressedFileMap() {
+        return resourceToCompressedFileMap;
+    }
+}
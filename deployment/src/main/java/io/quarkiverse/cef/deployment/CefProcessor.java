@@ -1,31 +1,122 @@
 package io.quarkiverse.cef.deployment;
 
 import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import org.apache.commons.codec.digest.DigestUtils;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 
+import io.quarkiverse.cef.BridgeMethodInvoker;
 import io.quarkiverse.cef.CefBuildTimeConfig;
+import io.quarkiverse.cef.CompressedProjectResources;
+import io.quarkiverse.cef.JavaScriptBean;
+import io.quarkiverse.cef.JavaScriptBridge;
+import io.quarkiverse.cef.JavaScriptBeanRecorder;
 import io.quarkiverse.cef.ProjectResourceHashes;
 import io.quarkiverse.cef.ProjectResourcesRecorder;
+import io.quarkiverse.cef.RecordedResourceManifest;
+import io.quarkiverse.cef.ResourceArchive;
+import io.quarkiverse.cef.TransformedProjectResources;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
-import io.quarkus.runtime.util.ClassPathUtils;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBundleBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourcePatternsBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
 
 class CefProcessor {
 
     private static final String FEATURE = "cef";
+    private static final DotName JAVASCRIPT_BEAN = DotName.createSimple(JavaScriptBean.class.getName());
+    private static final String MICROMETER_CEF_METRICS = "io.quarkiverse.cef.MicrometerCefMetrics";
+    private static final int SYNTHETIC = 0x1000;
+    private static final int BRIDGE = 0x0040;
+    private static final String SOURCE_RESOURCE_DIRECTORY = "quarkus-cef-source-resources";
+    private static final String RESOURCE_HASH_CACHE_FILE = "quarkus-cef-resource-hash-cache";
+    private static final String COMPRESSED_RESOURCE_CACHE_DIRECTORY = "quarkus-cef-compressed-resources";
+    private static final String TRANSFORMED_RESOURCE_CACHE_DIRECTORY = "quarkus-cef-transformed-resources";
+    private static final String RESOURCE_ARCHIVE_FILE = "quarkus-cef-resources.pack";
+    private static final String NATIVE_IMAGE_CONFIG_ROOT = "META-INF/native-image/io.quarkiverse.cef/quarkus-cef";
+    private static final String JNI_CONFIG_RESOURCE = NATIVE_IMAGE_CONFIG_ROOT + "/jni-config.json";
+    // Looked up by the JCEF native library, in addition to the org.cef classes
+    private static final List<String> JCEF_JNI_JDK_CLASSES = List.of(
+            "java.lang.Boolean", "java.lang.Double", "java.lang.Integer", "java.lang.Long", "java.lang.Object",
+            "java.lang.String", "java.util.Date", "java.util.HashMap", "java.util.Iterator", "java.util.Map",
+            "java.util.Map$Entry", "java.util.Set", "java.util.Vector", "java.awt.Dimension", "java.awt.Point",
+            "java.awt.Rectangle");
+    // Looked up by the AWT native libraries, and by JAWT when JCEF gets the native window of a browser
+    private static final List<String> AWT_JNI_CLASSES = List.of(
+            "java.awt.AWTEvent", "java.awt.Color", "java.awt.Component", "java.awt.Container", "java.awt.Cursor",
+            "java.awt.Font", "java.awt.Frame", "java.awt.Insets", "java.awt.Toolkit", "java.awt.Window",
+            "java.awt.event.InputEvent", "java.awt.event.KeyEvent", "java.awt.event.MouseEvent",
+            "java.awt.image.BufferedImage", "java.awt.image.ColorModel", "java.awt.image.Raster",
+            "sun.awt.SunToolkit", "sun.awt.X11.XBaseWindow", "sun.awt.X11.XToolkit", "sun.awt.X11.XWindow",
+            "sun.awt.X11GraphicsConfig", "sun.awt.X11GraphicsDevice", "sun.awt.X11GraphicsEnvironment");
+    // Instantiated by name: the toolkit, graphics environment and font manager of each platform, and the
+    // look and feel and UI delegates of HTMLFrame. Classes of other platforms are missing and skipped.
+    private static final List<String> AWT_REFLECTIVE_CLASSES = List.of(
+            "sun.awt.X11.XToolkit", "sun.awt.X11GraphicsEnvironment", "sun.awt.X11FontManager",
+            "sun.awt.windows.WToolkit", "sun.awt.Win32GraphicsEnvironment", "sun.awt.Win32FontManager",
+            "sun.lwawt.macosx.LWCToolkit", "sun.awt.CGraphicsEnvironment", "sun.font.CFontManager",
+            "javax.swing.plaf.metal.MetalLookAndFeel", "javax.swing.plaf.metal.MetalRootPaneUI",
+            "javax.swing.plaf.basic.BasicPanelUI");
+    private static final List<String> AWT_RESOURCE_BUNDLES = List.of(
+            "sun.awt.resources.awt", "com.sun.swing.internal.plaf.basic.resources.basic",
+            "com.sun.swing.internal.plaf.metal.resources.metal",
+            "com.sun.accessibility.internal.resources.accessibility");
+    private static final List<String> SWING_ICON_GLOBS = List.of(
+            "javax/swing/plaf/basic/icons/**", "javax/swing/plaf/metal/icons/**");
+    // Extend or hold AWT and JCEF classes, whose static initializers load native libraries, so they must not
+    // be initialized at build time
+    private static final List<String> RUNTIME_INITIALIZED_CLASSES = List.of(
+            "io.quarkiverse.cef.HTMLFrame", "io.quarkiverse.cef.WindowlessFrame",
+            "io.quarkiverse.cef.WindowlessRenderHandler");
 
     @Inject
     CefBuildTimeConfig cefBuildTimeConfig;
@@ -35,53 +126,324 @@ class CefProcessor {
         return new FeatureBuildItem(FEATURE);
     }
 
+    @BuildStep
+    void registerMicrometerMetrics(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            // Referenced by name, since Micrometer classes are only available when the capability is present
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(MICROMETER_CEF_METRICS)
+                    .setDefaultScope(BuiltinScope.APPLICATION.getName())
+                    .setUnremovable()
+                    .build());
+        }
+    }
+
+    @BuildStep
+    BeanDefiningAnnotationBuildItem javaScriptBeanDefiningAnnotation() {
+        return new BeanDefiningAnnotationBuildItem(JAVASCRIPT_BEAN, BuiltinScope.APPLICATION.getName());
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem unremovableJavaScriptBeans() {
+        return UnremovableBeanBuildItem.beanClassAnnotation(JAVASCRIPT_BEAN);
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
-    void recordProjectResourcesHashes(
+    @SuppressWarnings("unchecked")
+    void registerJavaScriptBeans(
+            JavaScriptBeanRecorder recorder,
+            RecorderContext recorderContext,
+            CombinedIndexBuildItem combinedIndex,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses) {
+        JavaScriptBeanInvokerGenerator invokerGenerator = new JavaScriptBeanInvokerGenerator(
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        for (AnnotationInstance javaScriptBean : combinedIndex.getIndex().getAnnotations(JAVASCRIPT_BEAN)) {
+            if (javaScriptBean.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            ClassInfo beanClass = javaScriptBean.target().asClass();
+            AnnotationValue nameValue = javaScriptBean.value();
+            String beanName = (nameValue != null && !nameValue.asString().isEmpty()) ? nameValue.asString()
+                    : decapitalize(beanClass.simpleName());
+
+            Set<String> methodNames = new HashSet<>();
+            for (MethodInfo method : beanClass.methods()) {
+                if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags())
+                        || (method.flags() & (SYNTHETIC | BRIDGE)) != 0
+                        || method.name().startsWith("<")) {
+                    continue;
+                }
+                if (!methodNames.add(method.name())) {
+                    throw new IllegalStateException("Method (" + method.name() + ") of @JavaScriptBean (" + beanClass.name()
+                            + ") is overloaded; Javascript bean methods cannot be overloaded.");
+                }
+                String[] parameterTypes = method.parameters().stream()
+                        .map(JavaScriptBeanInvokerGenerator::toCanonicalName)
+                        .toArray(String[]::new);
+                String invokerClassName = invokerGenerator.generateInvoker(beanClass, method);
+                recorder.registerMethod(beanName, method.name(), recorderContext.classProxy(beanClass.name().toString()),
+                        parameterTypes, (RuntimeValue<BridgeMethodInvoker>) recorderContext.newInstance(invokerClassName));
+            }
+        }
+    }
+
+    private static String decapitalize(String name) {
+        return name.isEmpty() ? name : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    @BuildStep(onlyIf = NativeBuild.class)
+    IndexDependencyBuildItem indexJcef() {
+        return new IndexDependencyBuildItem("org.cef", "jcef-main");
+    }
+
+    @BuildStep(onlyIf = NativeBuild.class)
+    void registerJcefForNativeImage(
+            CombinedIndexBuildItem combinedIndex,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<RuntimeInitializedClassBuildItem> runtimeInitializedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<NativeImageResourceBundleBuildItem> resourceBundles,
+            BuildProducer<NativeImageResourcePatternsBuildItem> resourcePatterns) {
+        // The JCEF native library calls into handlers, creates callbacks and reads settings through JNI
+        Set<String> jniClasses = new TreeSet<>(JCEF_JNI_JDK_CLASSES);
+        // Browsers are shown in Swing windows, so AWT and Swing must work in the image too
+        jniClasses.addAll(AWT_JNI_CLASSES);
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, AWT_REFLECTIVE_CLASSES.toArray(new String[0])));
+        for (String bundle : AWT_RESOURCE_BUNDLES) {
+            resourceBundles.produce(new NativeImageResourceBundleBuildItem(bundle));
+        }
+        resourcePatterns.produce(NativeImageResourcePatternsBuildItem.builder().includeGlobs(SWING_ICON_GLOBS).build());
+        for (ClassInfo classInfo : combinedIndex.getIndex().getKnownClasses()) {
+            String className = classInfo.name().toString();
+            if (className.startsWith("org.cef.")) {
+                jniClasses.add(className);
+                // JCEF loads native libraries and uses AWT, so none of it may be initialized at build time
+                runtimeInitializedClasses.produce(new RuntimeInitializedClassBuildItem(className));
+            }
+        }
+        for (String className : RUNTIME_INITIALIZED_CLASSES) {
+            runtimeInitializedClasses.produce(new RuntimeInitializedClassBuildItem(className));
+        }
+        generatedResources.produce(new GeneratedResourceBuildItem(JNI_CONFIG_RESOURCE, toJniConfig(jniClasses)));
+        generatedResources.produce(new GeneratedResourceBuildItem(NATIVE_IMAGE_CONFIG_ROOT + "/native-image.properties",
+                ("Args = -H:JNIConfigurationResources=" + JNI_CONFIG_RESOURCE + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] toJniConfig(Collection<String> classNames) {
+        StringBuilder out = new StringBuilder("[\n");
+        for (String className : classNames) {
+            if (out.length() > 2) {
+                out.append(",\n");
+            }
+            out.append("  {\"name\": \"").append(className).append("\", \"allDeclaredConstructors\": true, ")
+                    .append("\"allDeclaredMethods\": true, \"allDeclaredFields\": true}");
+        }
+        out.append("\n]\n");
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @BuildStep(onlyIf = NativeBuild.class)
+    NativeImageResourceBuildItem registerProjectResourcesForNativeImage(
+            CefProjectResourcesBuildItem projectResources) {
+        // The resource delivery is only known at runtime, so include every form of the resources
+        List<String> resources = new ArrayList<>();
+        resources.add(JavaScriptBridge.BRIDGE_SCRIPT_RESOURCE);
+        resources.add(RecordedResourceManifest.MANIFEST_RESOURCE);
+        if (cefBuildTimeConfig.packResources) {
+            resources.add(ResourceArchive.ARCHIVE_RESOURCE);
+        }
+        for (String resource : projectResources.getResourceToFileMap().keySet()) {
+            String classpathResource = projectResources.getTransformedResources().contains(resource)
+                    ? TransformedProjectResources.getTransformedResource(resource)
+                    : resource;
+            resources.add(classpathResource.startsWith("/") ? classpathResource.substring(1) : classpathResource);
+        }
+        return new NativeImageResourceBuildItem(resources);
+    }
+
+    @BuildStep
+    CefSourceResourcesBuildItem hashProjectResources(OutputTargetBuildItem outputTarget) throws IOException {
+        ResourceHashCache resourceHashCache = ResourceHashCache
+                .load(outputTarget.getOutputDirectory().resolve(RESOURCE_HASH_CACHE_FILE));
+        SortedMap<String, Path> resourceToFileMap = new ProjectResourceFinder(
+                outputTarget.getOutputDirectory().resolve(SOURCE_RESOURCE_DIRECTORY))
+                .findResources(Thread.currentThread().getContextClassLoader(), cefBuildTimeConfig.resourceRoot);
+
+        // Files are hashed independently, so spread them across cores
+        Map<String, String> resourceToHashMap = resourceToFileMap.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> resourceHashCache.getHash(entry.getValue())));
+        resourceHashCache.save(resourceToFileMap.values());
+        return new CefSourceResourcesBuildItem(resourceToFileMap, resourceToHashMap);
+    }
+
+    @BuildStep
+    void watchProjectResources(LaunchModeBuildItem launchMode, CefSourceResourcesBuildItem sourceResources,
+            BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles) {
+        if (launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+            return;
+        }
+        // Edits are pushed into open windows at runtime (see DevResourceSync), so they must not restart the app
+        for (String resource : sourceResources.getResourceToFileMap().keySet()) {
+            watchedFiles.produce(new HotDeploymentWatchedFileBuildItem(resource.substring(1), false));
+        }
+    }
+
+    @BuildStep
+    void builtInResourceTransformers(LaunchModeBuildItem launchMode,
+            BuildProducer<CefResourceTransformerBuildItem> resourceTransformers) {
+        // Keep resources as written in dev mode and tests, where source maps help debugging
+        if (!cefBuildTimeConfig.optimizeResources || launchMode.getLaunchMode() != LaunchMode.NORMAL) {
+            return;
+        }
+        resourceTransformers.produce(new CefResourceTransformerBuildItem(new SourceMapStripper(),
+                CefResourceTransformerBuildItem.SOURCE_MAP_STRIPPER_ORDER));
+        long inlineThreshold = cefBuildTimeConfig.inlineThreshold.asLongValue();
+        if (inlineThreshold > 0) {
+            resourceTransformers.produce(new CefResourceTransformerBuildItem(new CssAssetInliner(inlineThreshold),
+                    CefResourceTransformerBuildItem.ASSET_INLINER_ORDER));
+        }
+        resourceTransformers.produce(new CefResourceTransformerBuildItem(new CssMinifier(),
+                CefResourceTransformerBuildItem.MINIFIER_ORDER));
+        resourceTransformers.produce(new CefResourceTransformerBuildItem(new HtmlMinifier(),
+                CefResourceTransformerBuildItem.MINIFIER_ORDER));
+    }
+
+    @BuildStep
+    CefProjectResourcesBuildItem transformProjectResources(
+            CefSourceResourcesBuildItem sourceResources,
+            List<CefResourceTransformerBuildItem> resourceTransformers,
+            OutputTargetBuildItem outputTarget,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        if (resourceTransformers.isEmpty()) {
+            return new CefProjectResourcesBuildItem(sourceResources.getResourceToFileMap(),
+                    sourceResources.getResourceToHashMap(), Set.of());
+        }
+        List<CefResourceTransformer> transformers = resourceTransformers.stream()
+                .sorted(Comparator.comparingInt(CefResourceTransformerBuildItem::getOrder))
+                .map(CefResourceTransformerBuildItem::getTransformer)
+                .collect(Collectors.toList());
+        ResourceTransformationPipeline pipeline = new ResourceTransformationPipeline(
+                outputTarget.getOutputDirectory().resolve(TRANSFORMED_RESOURCE_CACHE_DIRECTORY), transformers,
+                sourceResources.getResourceToFileMap(), sourceResources.getResourceToHashMap());
+
+        // Resources are transformed independently, so spread them across cores
+        Map<String, Optional<Path>> resourceToTransformedFileMap = sourceResources.getResourceToFileMap().keySet()
+                .parallelStream()
+                .collect(Collectors.toMap(resource -> resource, pipeline::transform));
+
+        SortedMap<String, Path> resourceToFileMap = new TreeMap<>();
+        Map<String, String> resourceToHashMap = new HashMap<>();
+        Set<String> transformedResources = new HashSet<>();
+        for (Map.Entry<String, Optional<Path>> resourceToTransformedFile : resourceToTransformedFileMap.entrySet()) {
+            String resource = resourceToTransformedFile.getKey();
+            Path sourceFile = sourceResources.getResourceToFileMap().get(resource);
+            Optional<Path> transformedFile = resourceToTransformedFile.getValue();
+            if (transformedFile.isEmpty()) {
+                continue;
+            }
+            resourceToFileMap.put(resource, transformedFile.get());
+            if (transformedFile.get().equals(sourceFile)) {
+                resourceToHashMap.put(resource, sourceResources.getResourceToHashMap().get(resource));
+            } else {
+                resourceToHashMap.put(resource, ResourceHashCache.calculateHash(transformedFile.get()));
+                transformedResources.add(resource);
+                generatedResources.produce(new GeneratedResourceBuildItem(
+                        TransformedProjectResources.getTransformedResource(resource),
+                        Files.readAllBytes(transformedFile.get())));
+            }
+        }
+        return new CefProjectResourcesBuildItem(resourceToFileMap, resourceToHashMap, transformedResources);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordTransformedProjectResources(
             ProjectResourcesRecorder recorder,
-            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) throws IOException {
-        Map<String, String> projectResourcePathToHashMap = new HashMap<>();
-        computeHashOfResources(cefBuildTimeConfig.resourceRoot, projectResourcePathToHashMap);
+            CefProjectResourcesBuildItem projectResources,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(TransformedProjectResources.class)
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.transformedProjectResourcesSupplier(
+                        new HashSet<>(projectResources.getTransformedResources())))
+                .done());
+    }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordProjectResourcesHashes(
+            ProjectResourcesRecorder recorder,
+            CefProjectResourcesBuildItem projectResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+        generatedResources.produce(new GeneratedResourceBuildItem(RecordedResourceManifest.MANIFEST_RESOURCE,
+                RecordedResourceManifest.toBytes(projectResources.getResourceToHashMap())));
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(ProjectResourceHashes.class)
                 .scope(ApplicationScoped.class)
-                .supplier(recorder.projectResourceHashesSupplier(projectResourcePathToHashMap))
+                .supplier(recorder.projectResourceHashesSupplier())
                 .done());
     }
 
-    private String getJavaResourcePath(String javaRoot, Path resourceRootPath, Path resourcePath) {
-        StringBuilder out = new StringBuilder(javaRoot);
-        for (Path part : resourceRootPath.relativize(resourcePath)) {
-            out.append('/');
-            out.append(part.getFileName());
-        }
-        return out.toString();
-    }
-
-    private void computeHashOfResources(String basePath, Map<String, String> projectResourcePathToHashMap) throws IOException {
-        ClassPathUtils.consumeAsPaths(basePath, path -> {
-            if (Files.isDirectory(path)) {
-                try (Stream<Path> files = Files.walk(path)) {
-                    files.forEach(file -> {
-                        if (Files.isRegularFile(file)) {
-                            projectResourcePathToHashMap.put(getJavaResourcePath(basePath,
-                                    path,
-                                    file), calculateHash(file));
-                        }
-                    });
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
-        });
+    @BuildStep
+    CefCompressedResourcesBuildItem compressProjectResources(
+            CefProjectResourcesBuildItem projectResources,
+            OutputTargetBuildItem outputTarget) {
+        SortedMap<String, Path> resourceToCompressedFileMap = new TreeMap<>();
+        // The application jar keeps the original of every resource, so compressed variants only pay off in
+        // the archive, where they replace the originals
+        if (!cefBuildTimeConfig.compressResources || !cefBuildTimeConfig.packResources) {
+            return new CefCompressedResourcesBuildItem(resourceToCompressedFileMap);
+        }
+        ResourceCompressor resourceCompressor = new ResourceCompressor(
+                outputTarget.getOutputDirectory().resolve(COMPRESSED_RESOURCE_CACHE_DIRECTORY),
+                cefBuildTimeConfig.compressionThreshold.asLongValue());
+        Map<String, String> resourceToHashMap = projectResources.getResourceToHashMap();
+        Map<String, Optional<Path>> resourceToCompressedFileOptionalMap = projectResources.getResourceToFileMap().entrySet()
+                .parallelStream()
+                .filter(entry -> resourceCompressor.isCompressible(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> resourceCompressor.compress(entry.getValue(), resourceToHashMap.get(entry.getKey()))));
+        resourceToCompressedFileOptionalMap.forEach((resource, compressedFile) -> compressedFile
+                .ifPresent(file -> resourceToCompressedFileMap.put(resource, file)));
+        return new CefCompressedResourcesBuildItem(resourceToCompressedFileMap);
     }
 
-    private String calculateHash(Path path) {
-        try {
-            byte[] fileBytes = Files.readAllBytes(path);
-            return DigestUtils.sha512Hex(fileBytes);
-        } catch (IOException e) {
-            throw new IllegalStateException("Unable to calculate hash of file (" + path + ").", e);
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordCompressedProjectResources(
+            ProjectResourcesRecorder recorder,
+            CefCompressedResourcesBuildItem compressedResources,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(CompressedProjectResources.class)
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.compressedProjectResourcesSupplier(
+                        new HashSet<>(compressedResources.getResourceToCompressedFileMap().keySet())))
+                .done());
+    }
+
+    @BuildStep
+    void packProjectResources(
+            CefProjectResourcesBuildItem projectResources,
+            CefCompressedResourcesBuildItem compressedResources,
+            OutputTargetBuildItem outputTarget,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        if (!cefBuildTimeConfig.packResources) {
+            return;
         }
+        // Compressed resources are only stored in their compressed form
+        SortedMap<String, Path> resourceToFileMap = new TreeMap<>(projectResources.getResourceToFileMap());
+        Map<String, String> resourceToHashMap = new HashMap<>(projectResources.getResourceToHashMap());
+        compressedResources.getResourceToCompressedFileMap().forEach((resource, compressedFile) -> {
+            String compressedResource = CompressedProjectResources.getCompressedResource(resource);
+            resourceToFileMap.remove(resource);
+            resourceToFileMap.put(compressedResource, compressedFile);
+            resourceToHashMap.put(compressedResource, resourceToHashMap.get(resource));
+        });
+
+        // Resources are streamed into the archive file, which is only rewritten when its contents change
+        Path archiveFile = outputTarget.getOutputDirectory().resolve(RESOURCE_ARCHIVE_FILE);
+        ResourceArchive.write(resourceToFileMap, resourceToHashMap, archiveFile);
+        generatedResources.produce(new GeneratedResourceBuildItem(ResourceArchive.ARCHIVE_RESOURCE,
+                Files.readAllBytes(archiveFile)));
     }
 }
@@ -0,0 +1,47 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The project resources under ${quarkus.cef.resource-root}, after every {@link CefResourceTransformer} was
+ * applied, keyed by their Java resource path. These are the resources delivered to the browser.
+ */
+public final class CefProjectResourcesBuildItem extends SimpleBuildItem {
+    private final SortedMap<String, Path> resourceToFileMap;
+    private final Map<String, String> resourceToHashMap;
+    private final Set<String> transformedResources;
+
+    public CefProjectResourcesBuildItem(SortedMap<String, Path> resourceToFileMap, Map<String, String> resourceToHashMap,
+            Set<String> transformedResources) {
+        this.resourceToFileMap = resourceToFileMap;
+        this.resourceToHashMap = resourceToHashMap;
+        this.transformedResources = transformedResources;
+    }
+
+    /**
+     * @return The file containing each resource, sorted by resource path.
+     */
+    public SortedMap<String, Path> getResourceToFileMap() {
+        return resourceToFileMap;
+    }
+
+    /**
+     * @return The SHA-512 hex digest of each resource.
+     */
+    public Map<String, String> getResourceToHashMap() {
+        return resourceToHashMap;
+    }
+
+    /**
+     * @return The resources whose contents were changed by a transformer. Their transformed contents are
+     *         generated at TransformedProjectResources.getTransformedResource(resource).
+     */
+    public Set<String> getTransformedResources() {
+        return transformedResources;
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Transforms project resources at build time, for instance to minify them. Contributed to the build with
+ * {@link CefResourceTransformerBuildItem}.
+ * <p>
+ * Results are cached across builds, keyed on the resource, the hash of its contents, and the
+ * {@link #getId() id} of every transformer applied to it.
+ */
+public interface CefResourceTransformer {
+
+    /**
+     * @return An identifier of this transformer and its configuration. It must change whenever the output
+     *         for the same input could change, for instance when the transformer is upgraded.
+     */
+    String getId();
+
+    /**
+     * @return True if this transformer should be applied to resource.
+     */
+    boolean appliesTo(String resource);
+
+    /**
+     * @param resource The resource path, such as /ui/index.html
+     * @param contents The contents of the resource, as transformed by the previous transformers
+     * @param context Gives access to other project resources
+     * @return The transformed contents; contents itself if unchanged; or null to remove the resource.
+     */
+    byte[] transform(String resource, byte[] contents, Context context) throws IOException;
+
+    interface Context {
+        /**
+         * Returns the original contents of another project resource. The resources read through this method
+         * are recorded, so the result of the transformer is recomputed when any of them changes.
+         *
+         * @return The contents of resource, or empty if it is not a project resource.
+         */
+        Optional<byte[]> getProjectResource(String resource);
+    }
+}
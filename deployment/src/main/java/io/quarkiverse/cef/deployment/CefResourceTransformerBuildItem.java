@@ -0,0 +1,46 @@
+package io.quarkiverse.cef.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Contributes a {@link CefResourceTransformer} applied to the project resources under
+ * ${quarkus.cef.resource-root}. Transformers are applied in ascending order.
+ */
+public final class CefResourceTransformerBuildItem extends MultiBuildItem {
+    /**
+     * The order of the built-in transformer that removes source maps.
+     */
+    public static final int SOURCE_MAP_STRIPPER_ORDER = 100;
+    /**
+     * The order of the built-in transformer that inlines small assets into CSS.
+     */
+    public static final int ASSET_INLINER_ORDER = 200;
+    /**
+     * The order of the built-in CSS and HTML minifiers.
+     */
+    public static final int MINIFIER_ORDER = 300;
+    /**
+     * The order of transformers that do not specify one: after every built-in transformer.
+     */
+    public static final int DEFAULT_ORDER = 1000;
+
+    private final CefResourceTransformer transformer;
+    private final int order;
+
+    public CefResourceTransformerBuildItem(CefResourceTransformer transformer) {
+        this(transformer, DEFAULT_ORDER);
+    }
+
+    public CefResourceTransformerBuildItem(CefResourceTransformer transformer, int order) {
+        this.transformer = transformer;
+        this.order = order;
+    }
+
+    public CefResourceTransformer getTransformer() {
+        return transformer;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+}
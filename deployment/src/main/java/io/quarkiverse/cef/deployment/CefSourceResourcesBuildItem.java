@@ -0,0 +1,35 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The project resources under ${quarkus.cef.resource-root} as found on the classpath, before any
+ * {@link CefResourceTransformer} is applied, keyed by their Java resource path.
+ */
+public final class CefSourceResourcesBuildItem extends SimpleBuildItem {
+    private final SortedMap<String, Path> resourceToFileMap;
+    private final Map<String, String> resourceToHashMap;
+
+    public CefSourceResourcesBuildItem(SortedMap<String, Path> resourceToFileMap, Map<String, String> resourceToHashMap) {
+        this.resourceToFileMap = resourceToFileMap;
+        this.resourceToHashMap = resourceToHashMap;
+    }
+
+    /**
+     * @return The file containing each resource, sorted by resource path.
+     */
+    public SortedMap<String, Path> getResourceToFileMap() {
+        return resourceToFileMap;
+    }
+
+    /**
+     * @return The SHA-512 hex digest of each resource.
+     */
+    public Map<String, String> getResourceToHashMap() {
+        return resourceToHashMap;
+    }
+}
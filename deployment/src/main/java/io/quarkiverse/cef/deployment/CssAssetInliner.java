@@ -0,0 +1,99 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces relative url() references to small images and fonts in style sheets with data: URLs, saving a
+ * request per asset. The assets themselves are kept, since other resources may reference them.
+ */
+class CssAssetInliner implements CefResourceTransformer {
+    private static final Pattern URL = Pattern.compile("url\\(\\s*(['\"]?)([^'\"()\\s]+)\\1\\s*\\)");
+    private static final Map<String, String> EXTENSION_TO_MIME_TYPE_MAP = Map.ofEntries(
+            Map.entry("png", "image/png"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("ttf", "font/ttf"),
+            Map.entry("otf", "font/otf"));
+
+    private final long threshold;
+
+    CssAssetInliner(long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public String getId() {
+        return "css-asset-inliner-1-" + threshold;
+    }
+
+    @Override
+    public boolean appliesTo(String resource) {
+        return TextResources.hasExtension(resource, "css");
+    }
+
+    @Override
+    public byte[] transform(String resource, byte[] contents, Context context) {
+        String css = new String(contents, StandardCharsets.UTF_8);
+        Matcher matcher = URL.matcher(css);
+        StringBuilder out = new StringBuilder(css.length());
+        boolean changed = false;
+        while (matcher.find()) {
+            String replacement = matcher.group();
+            String asset = resolve(resource, matcher.group(2));
+            String mimeType = (asset != null) ? EXTENSION_TO_MIME_TYPE_MAP.get(TextResources.getExtension(asset)) : null;
+            if (mimeType != null) {
+                Optional<byte[]> assetContents = context.getProjectResource(asset);
+                if (assetContents.isPresent() && assetContents.get().length <= threshold) {
+                    replacement = "url(data:" + mimeType + ";base64,"
+                            + Base64.getEncoder().encodeToString(assetContents.get()) + ")";
+                    changed = true;
+                }
+            }
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        }
+        if (!changed) {
+            return contents;
+        }
+        matcher.appendTail(out);
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The resource that url, relative to resource, points to; or null if url is not relative
+     *         or carries a query or fragment.
+     */
+    static String resolve(String resource, String url) {
+        if (url.startsWith("/") || url.contains(":") || url.contains("?") || url.contains("#")) {
+            return null;
+        }
+        Deque<String> parts = new ArrayDeque<>();
+        for (String part : resource.substring(1, resource.lastIndexOf('/') + 1).split("/")) {
+            if (!part.isEmpty()) {
+                parts.addLast(part);
+            }
+        }
+        for (String part : url.split("/")) {
+            if (part.equals("..")) {
+                if (parts.isEmpty()) {
+                    return null;
+                }
+                parts.removeLast();
+            } else if (!part.isEmpty() && !part.equals(".")) {
+                parts.addLast(part);
+            }
+        }
+        return "/" + String.join("/", parts);
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Removes comments and unneeded whitespace from style sheets. Strings, and comments starting with /*!
+ * (typically licenses), are kept as is. Whitespace is only removed where it can never be significant, so
+ * for instance the spaces in "a :hover" and "calc(1px + 2px)" are kept.
+ */
+class CssMinifier implements CefResourceTransformer {
+    // Characters around which whitespace is never significant
+    private static final String SEPARATORS = "{};,>";
+
+    @Override
+    public String getId() {
+        return "css-minifier-1";
+    }
+
+    @Override
+    public boolean appliesTo(String resource) {
+        return TextResources.hasExtension(resource, "css");
+    }
+
+    @Override
+    public byte[] transform(String resource, byte[] contents, Context context) {
+        String text = new String(contents, StandardCharsets.UTF_8);
+        String minified = minify(text);
+        return minified.equals(text) ? contents : minified.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String minify(String css) {
+        StringBuilder out = new StringBuilder(css.length());
+        boolean pendingSpace = false;
+        int index = 0;
+        while (index < css.length()) {
+            char c = css.charAt(index);
+            if (c == '/' && css.startsWith("/*", index)) {
+                int end = css.indexOf("*/", index + 2);
+                end = (end == -1) ? css.length() : end + 2;
+                if (css.startsWith("/*!", index)) {
+                    out.append(css, index, end);
+                } else {
+                    pendingSpace = true;
+                }
+                index = end;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                index++;
+                continue;
+            }
+            if (pendingSpace) {
+                if (out.length() > 0 && SEPARATORS.indexOf(out.charAt(out.length() - 1)) == -1
+                        && SEPARATORS.indexOf(c) == -1) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+            }
+            if (c == '"' || c == '\'') {
+                index = TextResources.copyQuoted(css, index, out);
+                continue;
+            }
+            if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+                out.setLength(out.length() - 1);
+            }
+            out.append(c);
+            index++;
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Removes comments and collapses whitespace in HTML documents. Runs of whitespace between tags and in text
+ * become a single space, or a single line break if they contain one, which renders the same. Tags and
+ * their attributes, and the contents of pre, textarea, script and style elements, are kept as is, as are
+ * conditional comments.
+ */
+class HtmlMinifier implements CefResourceTransformer {
+    private static final String[] RAW_TEXT_ELEMENTS = { "pre", "textarea", "script", "style" };
+
+    @Override
+    public String getId() {
+        return "html-minifier-1";
+    }
+
+    @Override
+    public boolean appliesTo(String resource) {
+        return TextResources.hasExtension(resource, "html", "htm");
+    }
+
+    @Override
+    public byte[] transform(String resource, byte[] contents, Context context) {
+        String text = new String(contents, StandardCharsets.UTF_8);
+        String minified = minify(text);
+        return minified.equals(text) ? contents : minified.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String minify(String html) {
+        StringBuilder out = new StringBuilder(html.length());
+        String lowerCaseHtml = html.toLowerCase(Locale.ROOT);
+        int index = 0;
+        while (index < html.length()) {
+            char c = html.charAt(index);
+            if (Character.isWhitespace(c)) {
+                boolean lineBreak = false;
+                while (index < html.length() && Character.isWhitespace(html.charAt(index))) {
+                    lineBreak |= html.charAt(index) == '\n';
+                    index++;
+                }
+                out.append(lineBreak ? '\n' : ' ');
+                continue;
+            }
+            if (c != '<') {
+                out.append(c);
+                index++;
+                continue;
+            }
+            if (html.startsWith("<!--", index)) {
+                int end = html.indexOf("-->", index + 4);
+                end = (end == -1) ? html.length() : end + 3;
+                if (html.startsWith("<!--[if", index)) {
+                    out.append(html, index, end);
+                }
+                index = end;
+                continue;
+            }
+            String rawTextElement = getRawTextElement(lowerCaseHtml, index);
+            index = copyTag(html, index, out);
+            if (rawTextElement != null) {
+                int end = lowerCaseHtml.indexOf("</" + rawTextElement, index);
+                end = (end == -1) ? html.length() : end;
+                out.append(html, index, end);
+                index = end;
+            }
+        }
+        return out.toString();
+    }
+
+    private static String getRawTextElement(String lowerCaseHtml, int tagStart) {
+        for (String element : RAW_TEXT_ELEMENTS) {
+            int nameEnd = tagStart + 1 + element.length();
+            if (lowerCaseHtml.startsWith(element, tagStart + 1) && nameEnd < lowerCaseHtml.length()) {
+                char next = lowerCaseHtml.charAt(nameEnd);
+                if (next == '>' || next == '/' || Character.isWhitespace(next)) {
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int copyTag(String html, int start, StringBuilder out) {
+        int index = start;
+        while (index < html.length()) {
+            char c = html.charAt(index);
+            if (c == '"' || c == '\'') {
+                index = TextResources.copyQuoted(html, index, out);
+                continue;
+            }
+            out.append(c);
+            index++;
+            if (c == '>') {
+                break;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkiverse.cef.deployment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkiverse.cef.BridgeMethodInvoker;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a {@link BridgeMethodInvoker} for each exposed method, so methods are called without reflection.
+ */
+class JavaScriptBeanInvokerGenerator {
+    private static final Map<PrimitiveType.Primitive, Class<?>[]> PRIMITIVE_TO_TYPES_MAP = Map.of(
+            PrimitiveType.Primitive.BOOLEAN, new Class<?>[] { boolean.class, Boolean.class },
+            PrimitiveType.Primitive.BYTE, new Class<?>[] { byte.class, Byte.class },
+            PrimitiveType.Primitive.CHAR, new Class<?>[] { char.class, Character.class },
+            PrimitiveType.Primitive.SHORT, new Class<?>[] { short.class, Short.class },
+            PrimitiveType.Primitive.INT, new Class<?>[] { int.class, Integer.class },
+            PrimitiveType.Primitive.LONG, new Class<?>[] { long.class, Long.class },
+            PrimitiveType.Primitive.FLOAT, new Class<?>[] { float.class, Float.class },
+            PrimitiveType.Primitive.DOUBLE, new Class<?>[] { double.class, Double.class });
+
+    private final ClassOutput classOutput;
+
+    JavaScriptBeanInvokerGenerator(ClassOutput classOutput) {
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return The name of the generated invoker class
+     */
+    String generateInvoker(ClassInfo beanClass, MethodInfo method) {
+        String invokerClassName = beanClass.name().toString() + "_JavaScriptBean_" + method.name();
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(invokerClassName)
+                .interfaces(BridgeMethodInvoker.class)
+                .build()) {
+            MethodCreator invoke = classCreator.getMethodCreator("invoke", Object.class, Object.class, Object[].class);
+            invoke.addException(Exception.class);
+
+            ResultHandle bean = invoke.checkCast(invoke.getMethodParam(0), beanClass.name().toString());
+            List<Type> parameters = method.parameters();
+            ResultHandle[] arguments = new ResultHandle[parameters.size()];
+            for (int i = 0; i < arguments.length; i++) {
+                ResultHandle argument = invoke.readArrayValue(invoke.getMethodParam(1), i);
+                Type parameter = parameters.get(i);
+                if (parameter.kind() == Type.Kind.PRIMITIVE) {
+                    Class<?>[] types = PRIMITIVE_TO_TYPES_MAP.get(parameter.asPrimitiveType().primitive());
+                    arguments[i] = invoke.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(types[1], types[0].getName() + "Value", types[0]),
+                            invoke.checkCast(argument, types[1]));
+                } else {
+                    arguments[i] = invoke.checkCast(argument, parameter.name().toString());
+                }
+            }
+
+            ResultHandle result = invoke.invokeVirtualMethod(MethodDescriptor.of(method), bean, arguments);
+            Type returnType = method.returnType();
+            if (returnType.kind() == Type.Kind.VOID) {
+                invoke.returnValue(invoke.loadNull());
+            } else if (returnType.kind() == Type.Kind.PRIMITIVE) {
+                Class<?>[] types = PRIMITIVE_TO_TYPES_MAP.get(returnType.asPrimitiveType().primitive());
+                invoke.returnValue(invoke.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(types[1], "valueOf", types[1], types[0]), result));
+            } else {
+                invoke.returnValue(result);
+            }
+        }
+        return invokerClassName;
+    }
+
+    /**
+     * Returns the canonical name of type, as understood by Jackson's TypeFactory.
+     */
+    static String toCanonicalName(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+                return type.name().toString();
+            case PARAMETERIZED_TYPE:
+                return type.name().toString() + type.asParameterizedType().arguments().stream()
+                        .map(JavaScriptBeanInvokerGenerator::toCanonicalName)
+                        .collect(Collectors.joining(",", "<", ">"));
+            case ARRAY:
+                // Array names use the descriptor form, i.e. [Ljava.lang.String;
+                return type.name().toString();
+            default:
+                return Object.class.getName();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import io.quarkus.runtime.util.ClassPathUtils;
+
+/**
+ * Finds the project resources under a resource root on the classpath.
+ * <p>
+ * A resource root inside a jar is only readable while {@link ClassPathUtils} has its file system open, so
+ * its files are copied to a directory in the build output before that file system is closed. Copies keep
+ * the last modified time of the entry, and are only rewritten if it changes, so later build steps can
+ * hash and cache them like any other file.
+ */
+class ProjectResourceFinder {
+    private final Path extractionDirectory;
+
+    ProjectResourceFinder(Path extractionDirectory) {
+        this.extractionDirectory = extractionDirectory;
+    }
+
+    /**
+     * @param basePath The resource root, such as /ui
+     * @return The file containing each resource, keyed by its Java resource path
+     */
+    SortedMap<String, Path> findResources(ClassLoader classLoader, String basePath) throws IOException {
+        SortedMap<String, Path> resourceToFileMap = new TreeMap<>();
+        String resourceName = basePath.startsWith("/") ? basePath.substring(1) : basePath;
+        ClassPathUtils.consumeAsPaths(classLoader, resourceName, path -> {
+            if (!Files.isDirectory(path)) {
+                return;
+            }
+            boolean isLocal = path.getFileSystem() == FileSystems.getDefault();
+            try (Stream<Path> files = Files.walk(path)) {
+                files.filter(Files::isRegularFile).forEach(file -> {
+                    String resource = getJavaResourcePath(basePath, path, file);
+                    resourceToFileMap.put(resource, isLocal ? file : extract(resource, file));
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to list project resources (" + path + ").", e);
+            }
+        });
+        return resourceToFileMap;
+    }
+
+    private Path extract(String resource, Path file) {
+        Path extractedFile = extractionDirectory.resolve(resource.substring(1));
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (Files.isRegularFile(extractedFile) && Files.size(extractedFile) == attributes.size()
+                    && Files.getLastModifiedTime(extractedFile).equals(attributes.lastModifiedTime())) {
+                return extractedFile;
+            }
+            Files.createDirectories(extractedFile.getParent());
+            Files.copy(file, extractedFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(extractedFile, attributes.lastModifiedTime());
+            return extractedFile;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to extract project resource (" + file + ").", e);
+        }
+    }
+
+    private static String getJavaResourcePath(String javaRoot, Path resourceRootPath, Path resourcePath) {
+        StringBuilder out = new StringBuilder(javaRoot);
+        for (Path part : resourceRootPath.relativize(resourcePath)) {
+            out.append('/');
+            out.append(part.getFileName());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses resources with gzip, keeping compressed files in a directory keyed by the hash of the
+ * uncompressed contents so unchanged resources are not compressed again on later builds.
+ */
+class ResourceCompressor {
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("html", "htm", "css", "js", "mjs", "json", "map",
+            "svg", "txt", "xml");
+
+    private final Path cacheDirectory;
+    private final long threshold;
+
+    ResourceCompressor(Path cacheDirectory, long threshold) {
+        this.cacheDirectory = cacheDirectory;
+        this.threshold = threshold;
+    }
+
+    boolean isCompressible(String resource) {
+        int extensionIndex = resource.lastIndexOf('.');
+        return extensionIndex != -1 && extensionIndex > resource.lastIndexOf('/')
+                && COMPRESSIBLE_EXTENSIONS.contains(resource.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the compressed variant of file, or empty if the file is below the threshold or compressing
+     * it does not make it smaller.
+     */
+    Optional<Path> compress(Path file, String hash) {
+        try {
+            long size = Files.size(file);
+            if (size < threshold) {
+                return Optional.empty();
+            }
+            Path compressedFile = cacheDirectory.resolve(hash + ".gz");
+            if (!Files.isRegularFile(compressedFile)) {
+                Files.createDirectories(cacheDirectory);
+                Path temporaryFile = Files.createTempFile(cacheDirectory, hash, ".tmp");
+                try {
+                    try (OutputStream outputStream = new BestCompressionGZIPOutputStream(
+                            Files.newOutputStream(temporaryFile))) {
+                        Files.copy(file, outputStream);
+                    }
+                    try {
+                        Files.move(temporaryFile, compressedFile, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temporaryFile, compressedFile, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            }
+            return (Files.size(compressedFile) < size) ? Optional.of(compressedFile) : Optional.empty();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to compress file (" + file + ").", e);
+        }
+    }
+
+    private static final class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+        BestCompressionGZIPOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream, ResourceHashCache.BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.codec.binary.Hex;
+import org.jboss.logging.Logger;
+
+/**
+ * Persistent cache of resource hashes used during the build. Entries are keyed on the absolute
+ * path of a file, and are only reused if the size and last modified time of the file are unchanged,
+ * so unchanged files are not re-hashed on incremental builds and dev mode restarts.
+ */
+class ResourceHashCache {
+    private static final Logger LOG = Logger.getLogger(ResourceHashCache.class);
+
+    static final String HASH_ALGORITHM = "SHA-512";
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Path cacheFile;
+    private final Map<String, Entry> pathToEntryMap;
+
+    private ResourceHashCache(Path cacheFile, Map<String, Entry> pathToEntryMap) {
+        this.cacheFile = cacheFile;
+        this.pathToEntryMap = pathToEntryMap;
+    }
+
+    static ResourceHashCache load(Path cacheFile) {
+        Map<String, Entry> pathToEntryMap = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                for (String line : Files.readAllLines(cacheFile)) {
+                    String[] parts = line.split(FIELD_SEPARATOR, 4);
+                    if (parts.length != 4) {
+                        LOG.debug("Ignoring malformed hash cache (" + cacheFile + ").");
+                        pathToEntryMap.clear();
+                        break;
+                    }
+                    pathToEntryMap.put(parts[3],
+                            new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]));
+                }
+            } catch (IOException | NumberFormatException e) {
+                LOG.debug("Unable to read hash cache (" + cacheFile + "); all resources will be hashed.", e);
+                pathToEntryMap.clear();
+            }
+        }
+        return new ResourceHashCache(cacheFile, pathToEntryMap);
+    }
+
+    /**
+     * Returns the hash of the file, reusing the cached hash if the file has not changed.
+     * Safe to call from multiple threads.
+     */
+    String getHash(Path file) {
+        String key = file.toAbsolutePath().toString();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+
+            Entry cached = pathToEntryMap.get(key);
+            if (cached != null && cached.size == size && cached.lastModified == lastModified) {
+                return cached.hash;
+            }
+            String hash = calculateHash(file);
+            pathToEntryMap.put(key, new Entry(size, lastModified, hash));
+            return hash;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to calculate hash of file (" + file + ").", e);
+        }
+    }
+
+    /**
+     * Write the cache to disk, dropping entries for files that were not seen in this build.
+     */
+    void save(Collection<Path> seenFiles) {
+        List<String> lines = new ArrayList<>();
+        for (Path file : seenFiles) {
+            String key = file.toAbsolutePath().toString();
+            Entry entry = pathToEntryMap.get(key);
+            if (entry != null) {
+                lines.add(entry.size + FIELD_SEPARATOR + entry.lastModified + FIELD_SEPARATOR + entry.hash
+                        + FIELD_SEPARATOR + key);
+            }
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, lines.stream().sorted().collect(Collectors.toList()));
+        } catch (IOException e) {
+            LOG.debug("Unable to write hash cache (" + cacheFile + ").", e);
+        }
+    }
+
+    /**
+     * Hash a file by streaming it through the digest in fixed-size chunks, so large files
+     * are never fully loaded into memory.
+     */
+    static String calculateHash(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static final class Entry {
+        final long size;
+        final long lastModified;
+        final String hash;
+
+        Entry(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+}
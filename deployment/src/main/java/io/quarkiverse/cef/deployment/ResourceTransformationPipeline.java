@@ -0,0 +1,163 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Applies {@link CefResourceTransformer}s to project resources, keeping the results in a directory so
+ * unchanged resources are not transformed again on later builds.
+ * <p>
+ * Results are keyed on the resource path, the hash of its source contents and the ids of the applied
+ * transformers. Every result also records the hashes of the other resources the transformers read, and is
+ * only reused while those are unchanged.
+ */
+class ResourceTransformationPipeline {
+    private static final String KEPT = "kept";
+    private static final String REMOVED = "removed";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String MISSING_HASH = "-";
+
+    private final Path cacheDirectory;
+    private final List<CefResourceTransformer> transformers;
+    private final Map<String, Path> sourceResourceToFileMap;
+    private final Map<String, String> sourceResourceToHashMap;
+
+    ResourceTransformationPipeline(Path cacheDirectory, List<CefResourceTransformer> transformers,
+            Map<String, Path> sourceResourceToFileMap, Map<String, String> sourceResourceToHashMap) {
+        this.cacheDirectory = cacheDirectory;
+        this.transformers = transformers;
+        this.sourceResourceToFileMap = sourceResourceToFileMap;
+        this.sourceResourceToHashMap = sourceResourceToHashMap;
+    }
+
+    /**
+     * Transform a resource. Safe to call from multiple threads.
+     *
+     * @return Empty if the resource was removed; its source file if no transformer changed it; otherwise
+     *         a file holding the transformed contents.
+     */
+    Optional<Path> transform(String resource) {
+        Path sourceFile = sourceResourceToFileMap.get(resource);
+        List<CefResourceTransformer> applicableTransformers = new ArrayList<>();
+        StringBuilder transformerIds = new StringBuilder();
+        for (CefResourceTransformer transformer : transformers) {
+            if (transformer.appliesTo(resource)) {
+                applicableTransformers.add(transformer);
+                transformerIds.append(transformer.getId()).append('\0');
+            }
+        }
+        if (applicableTransformers.isEmpty()) {
+            return Optional.of(sourceFile);
+        }
+
+        String key = calculateKey(resource + '\0' + sourceResourceToHashMap.get(resource) + '\0' + transformerIds);
+        Path outputFile = cacheDirectory.resolve(key + ".out");
+        Path metadataFile = cacheDirectory.resolve(key + ".meta");
+        try {
+            Optional<Optional<Path>> cached = readCached(metadataFile, outputFile, sourceFile);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            byte[] sourceContents = Files.readAllBytes(sourceFile);
+            byte[] contents = sourceContents;
+            Map<String, String> dependencyToHashMap = new TreeMap<>();
+            CefResourceTransformer.Context context = dependency -> {
+                Path dependencyFile = sourceResourceToFileMap.get(dependency);
+                synchronized (dependencyToHashMap) {
+                    dependencyToHashMap.put(dependency, sourceResourceToHashMap.getOrDefault(dependency, MISSING_HASH));
+                }
+                if (dependencyFile == null) {
+                    return Optional.empty();
+                }
+                try {
+                    return Optional.of(Files.readAllBytes(dependencyFile));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unable to read resource (" + dependency + ").", e);
+                }
+            };
+            for (CefResourceTransformer transformer : applicableTransformers) {
+                contents = transformer.transform(resource, contents, context);
+                if (contents == null) {
+                    break;
+                }
+            }
+
+            List<String> metadata = new ArrayList<>();
+            Optional<Path> out;
+            if (contents == null) {
+                metadata.add(REMOVED);
+                out = Optional.empty();
+            } else if (contents == sourceContents) {
+                metadata.add(KEPT);
+                out = Optional.of(sourceFile);
+            } else {
+                metadata.add(KEPT);
+                writeAtomically(outputFile, contents);
+                out = Optional.of(outputFile);
+            }
+            dependencyToHashMap.forEach((dependency, hash) -> metadata.add(hash + FIELD_SEPARATOR + dependency));
+            writeAtomically(metadataFile, String.join("\n", metadata).getBytes(StandardCharsets.UTF_8));
+            return out;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to transform resource (" + resource + ").", e);
+        }
+    }
+
+    private Optional<Optional<Path>> readCached(Path metadataFile, Path outputFile, Path sourceFile) throws IOException {
+        if (!Files.isRegularFile(metadataFile)) {
+            return Optional.empty();
+        }
+        List<String> metadata = Files.readAllLines(metadataFile, StandardCharsets.UTF_8);
+        if (metadata.isEmpty()) {
+            return Optional.empty();
+        }
+        for (String dependencyLine : metadata.subList(1, metadata.size())) {
+            String[] parts = dependencyLine.split(FIELD_SEPARATOR, 2);
+            if (parts.length != 2 || !parts[0].equals(sourceResourceToHashMap.getOrDefault(parts[1], MISSING_HASH))) {
+                return Optional.empty();
+            }
+        }
+        if (REMOVED.equals(metadata.get(0))) {
+            return Optional.of(Optional.empty());
+        }
+        return Optional.of(Optional.of(Files.isRegularFile(outputFile) ? outputFile : sourceFile));
+    }
+
+    private static String calculateKey(String key) {
+        try {
+            return Hex.encodeHexString(MessageDigest.getInstance(ResourceHashCache.HASH_ALGORITHM)
+                    .digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] contents) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path temporaryFile = Files.createTempFile(cacheDirectory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporaryFile, contents);
+            try {
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Removes source maps, and the comments referencing them from scripts and style sheets.
+ */
+class SourceMapStripper implements CefResourceTransformer {
+    private static final Pattern SOURCE_MAPPING_URL_COMMENT = Pattern.compile(
+            "(?m)^[ \\t]*(//[#@] sourceMappingURL=[^\\r\\n]*|/\\*[#@] sourceMappingURL=[^*]*\\*/)[ \\t]*(\\r?\\n|$)");
+
+    @Override
+    public String getId() {
+        return "source-map-stripper-1";
+    }
+
+    @Override
+    public boolean appliesTo(String resource) {
+        return TextResources.hasExtension(resource, "map", "js", "mjs", "css");
+    }
+
+    @Override
+    public byte[] transform(String resource, byte[] contents, Context context) {
+        if (TextResources.hasExtension(resource, "map")) {
+            return null;
+        }
+        String text = new String(contents, StandardCharsets.UTF_8);
+        String stripped = SOURCE_MAPPING_URL_COMMENT.matcher(text).replaceAll("");
+        return stripped.length() == text.length() ? contents : stripped.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.cef.deployment;
+
+import java.util.Locale;
+
+/**
+ * Helpers shared by the built-in {@link CefResourceTransformer}s.
+ */
+final class TextResources {
+    private TextResources() {
+    }
+
+    static String getExtension(String resource) {
+        int extensionIndex = resource.lastIndexOf('.');
+        if (extensionIndex == -1 || extensionIndex < resource.lastIndexOf('/')) {
+            return "";
+        }
+        return resource.substring(extensionIndex + 1).toLowerCase(Locale.ROOT);
+    }
+
+    static boolean hasExtension(String resource, String... extensions) {
+        String extension = getExtension(resource);
+        for (String candidate : extensions) {
+            if (candidate.equals(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy the quoted string starting at start, including both quotes, to out.
+     *
+     * @return The index after the closing quote.
+     */
+    static int copyQuoted(String text, int start, StringBuilder out) {
+        char quote = text.charAt(start);
+        int index = start + 1;
+        while (index < text.length()) {
+            char c = text.charAt(index);
+            if (c == '\\') {
+                index += 2;
+                continue;
+            }
+            index++;
+            if (c == quote) {
+                break;
+            }
+        }
+        index = Math.min(index, text.length());
+        out.append(text, start, index);
+        return index;
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CssAssetInlinerTest {
+
+    @Test
+    public void testRelativeUrlsAreResolved() {
+        Assertions.assertEquals("/ui/img/a.png", CssAssetInliner.resolve("/ui/css/style.css", "../img/a.png"));
+        Assertions.assertEquals("/ui/css/a.png", CssAssetInliner.resolve("/ui/css/style.css", "./a.png"));
+        Assertions.assertEquals("/a.png", CssAssetInliner.resolve("/ui/css/style.css", "../../a.png"));
+        Assertions.assertNull(CssAssetInliner.resolve("/ui/css/style.css", "../../../a.png"));
+        Assertions.assertNull(CssAssetInliner.resolve("/ui/css/style.css", "/a.png"));
+        Assertions.assertNull(CssAssetInliner.resolve("/ui/css/style.css", "data:image/png;base64,AA=="));
+        Assertions.assertNull(CssAssetInliner.resolve("/ui/css/style.css", "font.woff?v=2"));
+    }
+
+    @Test
+    public void testOnlyAssetsUpToThresholdAreInlined() throws Exception {
+        byte[] small = { 1, 2, 3 };
+        Map<String, byte[]> resourceToContentsMap = Map.of("/ui/img/small.png", small,
+                "/ui/img/large.png", new byte[5], "/ui/img/small.txt", small);
+        CefResourceTransformer.Context context = resource -> Optional.ofNullable(resourceToContentsMap.get(resource));
+
+        String css = "a{background:url(../img/small.png)}b{background:url('../img/large.png')}"
+                + "i{background:url(\"../img/missing.png\")}p{background:url(../img/small.txt)}";
+        String inlined = new String(new CssAssetInliner(4).transform("/ui/css/style.css",
+                css.getBytes(StandardCharsets.UTF_8), context), StandardCharsets.UTF_8);
+
+        Assertions.assertEquals("a{background:url(data:image/png;base64," + Base64.getEncoder().encodeToString(small)
+                + ")}b{background:url('../img/large.png')}i{background:url(\"../img/missing.png\")}"
+                + "p{background:url(../img/small.txt)}", inlined);
+    }
+
+    @Test
+    public void testUnchangedContentsAreReturnedAsIs() throws Exception {
+        byte[] contents = "a{background:url(/abs.png)}".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertSame(contents, new CssAssetInliner(4).transform("/ui/style.css", contents,
+                resource -> Optional.of(new byte[1])));
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.cef.deployment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CssMinifierTest {
+
+    @Test
+    public void testWhitespaceAroundSeparatorsIsRemoved() {
+        Assertions.assertEquals("h1,h2>span{margin: 0;padding: 1px}",
+                CssMinifier.minify("h1, h2 > span {\n  margin: 0;\n  padding: 1px;\n}\n"));
+    }
+
+    @Test
+    public void testSignificantWhitespaceIsKept() {
+        Assertions.assertEquals("a :hover{width: calc(1px + 2px)}",
+                CssMinifier.minify("a :hover {\n  width: calc(1px + 2px);\n}"));
+    }
+
+    @Test
+    public void testCommentsAreRemovedExceptImportantComments() {
+        Assertions.assertEquals("/*! License */ p{margin: 0}",
+                CssMinifier.minify("/*! License */\n/* Paragraphs */\np { margin: 0; /* none */ }"));
+    }
+
+    @Test
+    public void testStringsAreKept() {
+        Assertions.assertEquals("p::before{content: \"a ; \\\" }  b\"}",
+                CssMinifier.minify("p::before {  content: \"a ; \\\" }  b\"; }"));
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HtmlMinifierTest {
+
+    @Test
+    public void testWhitespaceIsCollapsed() {
+        Assertions.assertEquals("<ul>\n<li>Hello world</li> <li>x</li>\n</ul>",
+                HtmlMinifier.minify("<ul>\n    <li>Hello    world</li>  <li>x</li>\n\n</ul>"));
+    }
+
+    @Test
+    public void testCommentsAreRemovedExceptConditionalComments() {
+        Assertions.assertEquals("<p>a</p><!--[if IE]><p>old  browser</p><![endif]-->",
+                HtmlMinifier.minify("<p>a</p><!-- note --><!--[if IE]><p>old  browser</p><![endif]-->"));
+    }
+
+    @Test
+    public void testRawTextElementsAreKept() {
+        String html = "<pre>  a\n   b </pre> <TEXTAREA rows=\"2\"> x  y </TEXTAREA>\n"
+                + "<script>if (a  <  b) { s = '<!-- c -->'; }</script>";
+        Assertions.assertEquals(html, HtmlMinifier.minify(html));
+    }
+
+    @Test
+    public void testQuotedAttributesAreKept() {
+        Assertions.assertEquals("<a title=\"a > b\" href='x  y'>link text</a>",
+                HtmlMinifier.minify("<a title=\"a > b\" href='x  y'>link   text</a>"));
+        // Only elements named exactly like a raw text element are kept as is
+        Assertions.assertEquals("<preview> a </preview>", HtmlMinifier.minify("<preview>  a  </preview>"));
+    }
+
+    @Test
+    public void testUnchangedContentsAreReturnedAsIs() {
+        byte[] contents = "<p>a</p>".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertSame(contents, new HtmlMinifier().transform("/index.html", contents, null));
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProjectResourceFinderTest {
+    private static final FileTime ENTRY_TIME = FileTime.fromMillis(1_600_000_000_000L);
+
+    @TempDir
+    Path directory;
+
+    private Path createJar(String... entries) throws IOException {
+        Path jar = directory.resolve("resources.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : entries) {
+                JarEntry jarEntry = new JarEntry(entry);
+                jarEntry.setLastModifiedTime(ENTRY_TIME);
+                out.putNextEntry(jarEntry);
+                if (!entry.endsWith("/")) {
+                    out.write(("contents of " + entry).getBytes(StandardCharsets.UTF_8));
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private SortedMap<String, Path> findResources(Path classPathEntry) throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classPathEntry.toUri().toURL() }, null)) {
+            return new ProjectResourceFinder(directory.resolve("extracted")).findResources(classLoader, "/ui");
+        }
+    }
+
+    @Test
+    public void testResourcesInAJarAreReadableAfterTheJarIsClosed() throws IOException {
+        SortedMap<String, Path> resourceToFileMap = findResources(createJar("ui/", "ui/index.html", "ui/css/",
+                "ui/css/style.css", "other/ignored.txt"));
+
+        Assertions.assertEquals(List.of("/ui/css/style.css", "/ui/index.html"), List.copyOf(resourceToFileMap.keySet()));
+        for (SortedMap.Entry<String, Path> resourceToFile : resourceToFileMap.entrySet()) {
+            Path file = resourceToFile.getValue();
+            Assertions.assertTrue(file.startsWith(directory.resolve("extracted")));
+            Assertions.assertEquals("contents of " + resourceToFile.getKey().substring(1),
+                    Files.readString(file));
+            Assertions.assertEquals(ENTRY_TIME.toMillis(), Files.getLastModifiedTime(file).toMillis(), 2000);
+            // The hash cache can read the copy like any other file
+            Assertions.assertNotNull(ResourceHashCache.calculateHash(file));
+        }
+    }
+
+    @Test
+    public void testUnchangedResourcesAreNotExtractedAgain() throws IOException {
+        Path jar = createJar("ui/", "ui/index.html");
+        Path extractedFile = findResources(jar).get("/ui/index.html");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(extractedFile);
+        // Same size and last modified time as the entry, so it is taken to be an earlier copy
+        Files.writeString(extractedFile, "contents of ui/index.htmx");
+        Files.setLastModifiedTime(extractedFile, lastModifiedTime);
+
+        Assertions.assertEquals("contents of ui/index.htmx", Files.readString(findResources(jar).get("/ui/index.html")));
+    }
+
+    @Test
+    public void testResourcesInADirectoryAreUsedInPlace() throws IOException {
+        Path classes = directory.resolve("classes");
+        Path index = classes.resolve("ui").resolve("index.html");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "<html></html>");
+        try (OutputStream out = Files.newOutputStream(classes.resolve("ui").resolve("app.js"))) {
+            out.write(';');
+        }
+
+        SortedMap<String, Path> resourceToFileMap = findResources(classes);
+
+        Assertions.assertEquals(List.of("/ui/app.js", "/ui/index.html"), List.copyOf(resourceToFileMap.keySet()));
+        Assertions.assertEquals(index, resourceToFileMap.get("/ui/index.html"));
+        Assertions.assertFalse(Files.exists(directory.resolve("extracted")));
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkiverse.cef.deployment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceTransformationPipelineTest {
+    private static final String STYLE_SHEET = "/ui/style.css";
+    private static final String ICON = "/ui/icon.png";
+
+    @TempDir
+    Path directory;
+
+    private final Map<String, Path> sourceResourceToFileMap = new HashMap<>();
+    private final Map<String, String> sourceResourceToHashMap = new HashMap<>();
+    private final AtomicInteger transformations = new AtomicInteger();
+
+    private void addSourceResource(String resource, byte[] contents, String hash) throws IOException {
+        Path file = directory.resolve("src").resolve(resource.substring(1));
+        Files.createDirectories(file.getParent());
+        Files.write(file, contents);
+        sourceResourceToFileMap.put(resource, file);
+        sourceResourceToHashMap.put(resource, hash);
+    }
+
+    // A new pipeline on every call, as on every build
+    private Optional<Path> transform(String resource) {
+        CssAssetInliner cssAssetInliner = new CssAssetInliner(16);
+        CefResourceTransformer countingTransformer = new CefResourceTransformer() {
+            @Override
+            public String getId() {
+                return cssAssetInliner.getId();
+            }
+
+            @Override
+            public boolean appliesTo(String resource) {
+                return cssAssetInliner.appliesTo(resource);
+            }
+
+            @Override
+            public byte[] transform(String resource, byte[] contents, Context context) {
+                transformations.incrementAndGet();
+                return cssAssetInliner.transform(resource, contents, context);
+            }
+        };
+        return new ResourceTransformationPipeline(directory.resolve("cache"),
+                List.of(countingTransformer, new SourceMapStripper()), sourceResourceToFileMap, sourceResourceToHashMap)
+                .transform(resource);
+    }
+
+    private static String dataUrl(byte[] contents) {
+        return "url(data:image/png;base64," + Base64.getEncoder().encodeToString(contents) + ")";
+    }
+
+    @Test
+    public void testResultsAreCachedUntilAnInlinedAssetChanges() throws Exception {
+        addSourceResource(STYLE_SHEET, "p{background:url(icon.png)}".getBytes(StandardCharsets.UTF_8), "css-1");
+        addSourceResource(ICON, new byte[] { 1 }, "icon-1");
+
+        Path transformed = transform(STYLE_SHEET).orElseThrow();
+        Assertions.assertEquals("p{background:" + dataUrl(new byte[] { 1 }) + "}", Files.readString(transformed));
+        Assertions.assertEquals(transformed, transform(STYLE_SHEET).orElseThrow());
+        Assertions.assertEquals(1, transformations.get());
+
+        addSourceResource(ICON, new byte[] { 2 }, "icon-2");
+        Path retransformed = transform(STYLE_SHEET).orElseThrow();
+        Assertions.assertEquals(2, transformations.get());
+        Assertions.assertEquals("p{background:" + dataUrl(new byte[] { 2 }) + "}", Files.readString(retransformed));
+    }
+
+    @Test
+    public void testUnchangedAndRemovedResources() throws Exception {
+        addSourceResource(STYLE_SHEET, "p{}".getBytes(StandardCharsets.UTF_8), "css-1");
+        addSourceResource("/ui/style.css.map", new byte[1], "map-1");
+        addSourceResource("/ui/index.html", new byte[1], "html-1");
+
+        Assertions.assertEquals(sourceResourceToFileMap.get(STYLE_SHEET), transform(STYLE_SHEET).orElseThrow());
+        Assertions.assertEquals(sourceResourceToFileMap.get("/ui/index.html"), transform("/ui/index.html").orElseThrow());
+        Assertions.assertTrue(transform("/ui/style.css.map").isEmpty());
+        // Removal is cached too
+        Assertions.assertTrue(transform("/ui/style.css.map").isEmpty());
+        Assertions.assertEquals(sourceResourceToFileMap.get(STYLE_SHEET), transform(STYLE_SHEET).orElseThrow());
+        Assertions.assertEquals(1, transformations.get());
+    }
+}
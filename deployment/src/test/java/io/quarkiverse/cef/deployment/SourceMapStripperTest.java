@@ -0,0 +1,34 @@
+package io.quarkiverse.cef.deployment;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SourceMapStripperTest {
+    private final SourceMapStripper sourceMapStripper = new SourceMapStripper();
+
+    private String transform(String resource, String contents) {
+        return new String(sourceMapStripper.transform(resource, contents.getBytes(StandardCharsets.UTF_8), null),
+                StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testSourceMapsAreRemoved() {
+        Assertions.assertTrue(sourceMapStripper.appliesTo("/ui/app.js.map"));
+        Assertions.assertNull(sourceMapStripper.transform("/ui/app.js.map", new byte[1], null));
+        Assertions.assertFalse(sourceMapStripper.appliesTo("/ui/index.html"));
+    }
+
+    @Test
+    public void testSourceMappingUrlCommentsAreRemoved() {
+        Assertions.assertEquals("let a = 1;\n", transform("/ui/app.js", "let a = 1;\n//# sourceMappingURL=app.js.map\n"));
+        Assertions.assertEquals("p{}\n", transform("/ui/app.css", "p{}\n/*# sourceMappingURL=app.css.map */"));
+    }
+
+    @Test
+    public void testOtherCommentsAreKept() {
+        byte[] contents = "let url = '//# sourceMappingURL=x';\n// sourceMappingURL\n".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertSame(contents, sourceMapStripper.transform("/ui/app.js", contents, null));
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.cef.test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The deployment module does not depend on quarkus-vertx-http, so this application has no Vert.x HTTP
+ * server, and the quarkus-app:// scheme must be usable without loading its classes.
+ */
+public class CefWithoutHttpTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    public void testSchemeHandlerFactoryIsCreatedWithoutHttpServer(@TempDir Path appDataDirectory) throws Exception {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Class<?> factoryClass = Class.forName("io.quarkiverse.cef.QuarkusAppSchemeHandlerFactory", true, classLoader);
+        Method isApiAvailable = factoryClass.getDeclaredMethod("isApiAvailable");
+        isApiAvailable.setAccessible(true);
+        Assertions.assertEquals(false, isApiAvailable.invoke(null));
+
+        Constructor<?> constructor = factoryClass.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        Assertions.assertNotNull(constructor.newInstance(null, null, appDataDirectory));
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkiverse.cef.test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.cef.handler.CefMessageRouterHandlerAdapter;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkiverse.cef.JavaScriptBean;
+import io.quarkiverse.cef.JavaScriptBridge;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JavaScriptBeanTest {
+    private static final String APP_PAGE_URL = "quarkus-app://app/index.html";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Greeter.class, Calculator.class, Failing.class));
+
+    @Inject
+    JavaScriptBridge javaScriptBridge;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testBindingsAreGenerated() {
+        String script = javaScriptBridge.getScript();
+        Assertions.assertTrue(script.contains("window.quarkus.__bind(\"greeter\", [\"greet\"]);"), script);
+        Assertions.assertTrue(script.contains("window.quarkus.__bind(\"calc\", [\"add\"]);"), script);
+    }
+
+    @Test
+    public void testBatchWithFailedCall() throws Exception {
+        JsonNode response = objectMapper.readTree(query(APP_PAGE_URL,
+                "B[[1, \"greeter.greet\", [\"Ada\"]], [2, \"calc.add\", [1, 2]], [3, \"failing.fail\", []]]")
+                .get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(objectMapper.readTree("[[1, 0, \"Hello Ada\"], [2, 0, 3], [3, 1, \"failed\"]]"),
+                response);
+        Assertions.assertEquals(1, javaScriptBridge.getMethodMetrics().get("failing.fail").getFailureCount());
+    }
+
+    @Test
+    public void testMalformedAndUnknownCallsAreAnswered() throws Exception {
+        JsonNode response = objectMapper.readTree(query(APP_PAGE_URL,
+                "B[[4], [5, \"no.such\", []], \"call\", [6, \"calc.add\", [2, 2]]]")
+                .get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(4, response.size(), response.toString());
+        Assertions.assertEquals(4, response.get(0).get(0).asInt());
+        Assertions.assertEquals(1, response.get(0).get(1).asInt());
+        Assertions.assertEquals(1, response.get(1).get(1).asInt());
+        Assertions.assertTrue(response.get(2).get(0).isNull());
+        Assertions.assertEquals(1, response.get(2).get(1).asInt());
+        Assertions.assertEquals(objectMapper.readTree("[6, 0, 4]"), response.get(3));
+        Assertions.assertFalse(javaScriptBridge.getMethodMetrics().containsKey("no.such"));
+    }
+
+    @Test
+    public void testCallsFromOtherPagesAreRejected() throws Exception {
+        CompletableFuture<String> response = query("https://example.com/",
+                "B[[1, \"greeter.greet\", [\"Ada\"]]]");
+        ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+                () -> response.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(failure.getCause().getMessage().startsWith("403"), failure.getCause().getMessage());
+    }
+
+    /**
+     * Send request through the message router handler of the bridge, from a frame at frameUrl.
+     */
+    private CompletableFuture<String> query(String frameUrl, String request) throws Exception {
+        JavaScriptBridge bridge = (JavaScriptBridge) ((ClientProxy) javaScriptBridge).arc_contextualInstance();
+        Method createMessageRouterHandler = JavaScriptBridge.class.getDeclaredMethod("createMessageRouterHandler",
+                Predicate.class);
+        createMessageRouterHandler.setAccessible(true);
+        CefMessageRouterHandlerAdapter handler = (CefMessageRouterHandlerAdapter) createMessageRouterHandler
+                .invoke(bridge, (Predicate<String>) url -> url.startsWith("quarkus-app://app/"));
+
+        CefFrame frame = (CefFrame) Proxy.newProxyInstance(CefFrame.class.getClassLoader(),
+                new Class<?>[] { CefFrame.class },
+                (proxy, method, arguments) -> "getURL".equals(method.getName()) ? frameUrl : null);
+        CompletableFuture<String> response = new CompletableFuture<>();
+        Assertions.assertTrue(handler.onQuery(null, frame, 1, request, false, new CefQueryCallback() {
+            @Override
+            public void success(String result) {
+                response.complete(result);
+            }
+
+            @Override
+            public void failure(int errorCode, String errorMessage) {
+                response.completeExceptionally(new IllegalStateException(errorCode + " " + errorMessage));
+            }
+        }));
+        return response;
+    }
+
+    @JavaScriptBean
+    public static class Greeter {
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    @JavaScriptBean("calc")
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    @JavaScriptBean
+    public static class Failing {
+        public String fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandler;
+import org.cef.handler.CefResourceHandlerAdapter;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefPostData;
+import org.cef.network.CefPostDataElement;
+import org.cef.network.CefRequest;
+import org.cef.network.CefResponse;
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import io.quarkus.netty.runtime.virtual.VirtualClientConnection;
+import io.quarkus.netty.runtime.virtual.VirtualResponseHandler;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+
+/**
+ * Serves a quarkus-app://api/ request from the application's own HTTP routes, through the in-process
+ * virtual channel of the Vert.x HTTP server instead of a socket. quarkus-app://api/hello is routed to
+ * /hello. The request body is sent in chunks as read from CEF, and the response body is handed to CEF as
+ * it arrives.
+ * <p>
+ * Only loaded when quarkus-vertx-http is on the classpath; see
+ * {@link QuarkusAppSchemeHandlerFactory#isApiAvailable()}.
+ */
+final class ApiResourceHandler extends CefResourceHandlerAdapter implements VirtualResponseHandler {
+    private static final Logger LOG = Logger.getLogger(ApiResourceHandler.class);
+    private static final int REQUEST_CHUNK_SIZE = 64 * 1024;
+
+    private final Object lock = new Object();
+    private final Deque<ByteBuf> chunks = new ArrayDeque<>();
+    private VirtualClientConnection connection;
+    private CefCallback headersCallback;
+    private CefCallback readCallback;
+    private String origin;
+    private int status;
+    private String statusText;
+    private String mimeType;
+    private Map<String, String> headers;
+    private long contentLength = -1;
+    private boolean complete;
+
+    private ApiResourceHandler() {
+    }
+
+    static CefResourceHandler create() {
+        return new ApiResourceHandler();
+    }
+
+    @Override
+    public boolean processRequest(CefRequest request, CefCallback callback) {
+        Map<String, String> requestHeaders = new HashMap<>();
+        request.getHeaderMap(requestHeaders);
+        origin = ProjectResourceProvider.getHeader(requestHeaders, "Origin");
+        if ("OPTIONS".equals(request.getMethod())
+                && ProjectResourceProvider.getHeader(requestHeaders, "Access-Control-Request-Method") != null) {
+            respondToPreflight(requestHeaders);
+            callback.Continue();
+            return true;
+        }
+
+        URI uri = URI.create(request.getURL());
+        String path = (uri.getRawPath() == null || uri.getRawPath().isEmpty()) ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path = path + "?" + uri.getRawQuery();
+        }
+        DefaultHttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                HttpMethod.valueOf(request.getMethod()), path);
+        requestHeaders.forEach(nettyRequest.headers()::add);
+        nettyRequest.headers().set(HttpHeaderNames.HOST, QuarkusAppSchemeHandlerFactory.API_HOST);
+
+        synchronized (lock) {
+            headersCallback = callback;
+        }
+        try {
+            connection = VirtualClientConnection.connect(this, VertxHttpRecorder.VIRTUAL_HTTP);
+            sendRequest(nettyRequest, request.getPostData());
+        } catch (Exception e) {
+            // The virtual channel only exists when quarkus.http.virtual is enabled
+            LOG.error("Unable to dispatch (" + request.getURL() + ") to the HTTP server. "
+                    + "Set quarkus.http.virtual=true to route quarkus-app://api requests in process.", e);
+            respond(502, "Bad Gateway");
+        }
+        return true;
+    }
+
+    private void sendRequest(DefaultHttpRequest nettyRequest, CefPostData postData) throws IOException {
+        if (postData == null || postData.getElementCount() == 0) {
+            connection.sendMessage(nettyRequest);
+            connection.sendMessage(LastHttpContent.EMPTY_LAST_CONTENT);
+            return;
+        }
+        Vector<CefPostDataElement> elements = new Vector<>();
+        postData.getElements(elements);
+        long length = 0;
+        for (CefPostDataElement element : elements) {
+            length += (element.getType() == CefPostDataElement.Type.PDE_TYPE_FILE) ? Files.size(Path.of(element.getFile()))
+                    : element.getBytesCount();
+        }
+        nettyRequest.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
+        connection.sendMessage(nettyRequest);
+        for (CefPostDataElement element : elements) {
+            if (element.getType() == CefPostDataElement.Type.PDE_TYPE_FILE) {
+                // Uploaded files are sent in chunks rather than read into memory
+                try (InputStream inputStream = Files.newInputStream(Path.of(element.getFile()))) {
+                    byte[] chunk = new byte[REQUEST_CHUNK_SIZE];
+                    int read;
+                    while ((read = inputStream.read(chunk)) != -1) {
+                        connection.sendMessage(new DefaultHttpContent(Unpooled.copiedBuffer(chunk, 0, read)));
+                    }
+                }
+            } else if (element.getType() == CefPostDataElement.Type.PDE_TYPE_BYTES) {
+                byte[] bytes = new byte[element.getBytesCount()];
+                element.getBytes(bytes.length, bytes);
+                connection.sendMessage(new DefaultHttpContent(Unpooled.wrappedBuffer(bytes)));
+            }
+        }
+        connection.sendMessage(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+
+    private void respondToPreflight(Map<String, String> requestHeaders) {
+        synchronized (lock) {
+            status = 204;
+            statusText = "No Content";
+            headers = new HashMap<>();
+            headers.put("Access-Control-Allow-Methods",
+                    ProjectResourceProvider.getHeader(requestHeaders, "Access-Control-Request-Method"));
+            String requestedHeaders = ProjectResourceProvider.getHeader(requestHeaders, "Access-Control-Request-Headers");
+            if (requestedHeaders != null) {
+                headers.put("Access-Control-Allow-Headers", requestedHeaders);
+            }
+            addCorsHeaders(headers);
+            contentLength = 0;
+            complete = true;
+        }
+    }
+
+    private void respond(int status, String statusText) {
+        CefCallback callback;
+        synchronized (lock) {
+            this.status = status;
+            this.statusText = statusText;
+            this.headers = new HashMap<>();
+            this.contentLength = 0;
+            this.complete = true;
+            callback = headersCallback;
+            headersCallback = null;
+        }
+        if (callback != null) {
+            callback.Continue();
+        }
+    }
+
+    private void addCorsHeaders(Map<String, String> responseHeaders) {
+        QuarkusAppSchemeHandlerFactory.addCorsHeaders(origin, responseHeaders);
+    }
+
+    @Override
+    public void handleMessage(Object message) {
+        CefCallback callback = null;
+        try {
+            synchronized (lock) {
+                if (message instanceof HttpResponse) {
+                    HttpResponse response = (HttpResponse) message;
+                    status = response.status().code();
+                    statusText = response.status().reasonPhrase();
+                    headers = new HashMap<>();
+                    for (Map.Entry<String, String> header : response.headers()) {
+                        headers.merge(header.getKey(), header.getValue(), (first, second) -> first + ", " + second);
+                    }
+                    mimeType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+                    if (mimeType != null && mimeType.indexOf(';') >= 0) {
+                        mimeType = mimeType.substring(0, mimeType.indexOf(';')).trim();
+                    }
+                    String length = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+                    if (length != null && !response.headers().contains(HttpHeaderNames.TRANSFER_ENCODING,
+                            HttpHeaderValues.CHUNKED, true)) {
+                        contentLength = Long.parseLong(length);
+                    }
+                    addCorsHeaders(headers);
+                    callback = headersCallback;
+                    headersCallback = null;
+                }
+                if (message instanceof HttpContent) {
+                    ByteBuf content = ((HttpContent) message).content();
+                    if (content.isReadable()) {
+                        chunks.addLast(content.retain());
+                    }
+                    if (message instanceof LastHttpContent) {
+                        complete = true;
+                    }
+                    if (callback == null) {
+                        callback = readCallback;
+                        readCallback = null;
+                    }
+                }
+            }
+        } finally {
+            ReferenceCountUtil.release(message);
+        }
+        if (callback != null) {
+            callback.Continue();
+        }
+    }
+
+    @Override
+    public void close() {
+        CefCallback callback;
+        synchronized (lock) {
+            if (complete) {
+                return;
+            }
+            complete = true;
+            if (headersCallback != null) {
+                status = 502;
+                statusText = "Bad Gateway";
+                headers = new HashMap<>();
+                contentLength = 0;
+            }
+            callback = (headersCallback != null) ? headersCallback : readCallback;
+            headersCallback = null;
+            readCallback = null;
+        }
+        if (callback != null) {
+            callback.Continue();
+        }
+    }
+
+    @Override
+    public void getResponseHeaders(CefResponse response, IntRef responseLength, StringRef redirectUrl) {
+        synchronized (lock) {
+            response.setStatus(status);
+            response.setStatusText(statusText);
+            if (mimeType != null) {
+                response.setMimeType(mimeType);
+            }
+            response.setHeaderMap(headers);
+            responseLength.set((int) Math.min(contentLength, Integer.MAX_VALUE));
+        }
+    }
+
+    @Override
+    public boolean readResponse(byte[] dataOut, int bytesToRead, IntRef bytesRead, CefCallback callback) {
+        synchronized (lock) {
+            int read = 0;
+            while (read < bytesToRead && !chunks.isEmpty()) {
+                ByteBuf chunk = chunks.peekFirst();
+                int length = Math.min(bytesToRead - read, chunk.readableBytes());
+                chunk.readBytes(dataOut, read, length);
+                read += length;
+                if (!chunk.isReadable()) {
+                    chunks.removeFirst().release();
+                }
+            }
+            bytesRead.set(read);
+            if (read > 0) {
+                return true;
+            }
+            if (complete) {
+                return false;
+            }
+            // Nothing buffered yet; CEF waits until the callback is continued by handleMessage
+            readCallback = callback;
+            return true;
+        }
+    }
+
+    @Override
+    public void cancel() {
+        synchronized (lock) {
+            complete = true;
+            chunks.forEach(ByteBuf::release);
+            chunks.clear();
+            readCallback = null;
+            headersCallback = null;
+        }
+        if (connection != null) {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandler;
+import org.cef.handler.CefResourceHandlerAdapter;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefRequest;
+import org.cef.network.CefResponse;
+import org.jboss.logging.Logger;
+
+/**
+ * Serves files under the app data directory for quarkus-app://data/ URLs, with support for single byte
+ * range requests so media can seek. Files are read in the chunks CEF asks for, at the requested position,
+ * directly into CEF's read buffer; they are never held in memory as a whole.
+ */
+final class AppDataResourceHandler extends CefResourceHandlerAdapter {
+    private static final Logger LOG = Logger.getLogger(AppDataResourceHandler.class);
+
+    private final FileChannel channel;
+    private final int status;
+    private final String statusText;
+    private final String mimeType;
+    private final Map<String, String> headers;
+    private final long end;
+    private long position;
+
+    private AppDataResourceHandler(FileChannel channel, int status, String statusText, String mimeType,
+            Map<String, String> headers, long start, long end) {
+        this.channel = channel;
+        this.status = status;
+        this.statusText = statusText;
+        this.mimeType = mimeType;
+        this.headers = headers;
+        this.position = start;
+        this.end = end;
+    }
+
+    static CefResourceHandler create(Path appDataDirectory, CefRequest request) {
+        Map<String, String> requestHeaders = new HashMap<>();
+        request.getHeaderMap(requestHeaders);
+        return create(appDataDirectory, URI.create(request.getURL()).getPath(), requestHeaders);
+    }
+
+    static CefResourceHandler create(Path appDataDirectory, String path, Map<String, String> requestHeaders) {
+        Path file = resolve(appDataDirectory, path);
+        if (file == null || !Files.isRegularFile(file)) {
+            return BufferResourceHandler.notFound();
+        }
+
+        FileChannel channel;
+        long size;
+        Map<String, String> headers = new HashMap<>();
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            size = channel.size();
+            headers.put("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(Files.getLastModifiedTime(file).toInstant().atOffset(ZoneOffset.UTC)));
+        } catch (IOException e) {
+            LOG.error("Unable to open app data file (" + file + ").", e);
+            return BufferResourceHandler.notFound();
+        }
+        headers.put("Accept-Ranges", "bytes");
+        headers.put("Cache-Control", "no-cache");
+        // Media elements with a crossorigin attribute, and fetch(), request data files with CORS
+        QuarkusAppSchemeHandlerFactory.addCorsHeaders(ProjectResourceProvider.getHeader(requestHeaders, "Origin"),
+                headers);
+        String mimeType = MimeTypes.getMimeType(file.getFileName().toString());
+
+        String rangeHeader = ProjectResourceProvider.getHeader(requestHeaders, "Range");
+        ByteRange range = (rangeHeader != null) ? ByteRange.parse(rangeHeader, size) : null;
+        if (range == null) {
+            return new AppDataResourceHandler(channel, 200, "OK", mimeType, headers, 0, size);
+        }
+        if (!range.isSatisfiable()) {
+            close(channel);
+            headers.put("Content-Range", "bytes */" + size);
+            return new BufferResourceHandler(416, "Range Not Satisfiable", "text/plain", headers,
+                    ByteBuffer.allocate(0));
+        }
+        headers.put("Content-Range", "bytes " + range.start + "-" + (range.end - 1) + "/" + size);
+        return new AppDataResourceHandler(channel, 206, "Partial Content", mimeType, headers, range.start, range.end);
+    }
+
+    /**
+     * @return The file under appDataDirectory for the path of a quarkus-app://data/ URL, or null if the
+     *         path leads outside of it.
+     */
+    static Path resolve(Path appDataDirectory, String path) {
+        Path root = appDataDirectory.toAbsolutePath().normalize();
+        String relativePath = path.startsWith("/") ? path.substring(1) : path;
+        Path file = root.resolve(relativePath).normalize();
+        return (file.startsWith(root) && !file.equals(root)) ? file : null;
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean processRequest(CefRequest request, CefCallback callback) {
+        callback.Continue();
+        return true;
+    }
+
+    @Override
+    public void getResponseHeaders(CefResponse response, IntRef responseLength, StringRef redirectUrl) {
+        response.setStatus(status);
+        response.setStatusText(statusText);
+        response.setMimeType(mimeType);
+        response.setHeaderMap(headers);
+        long length = end - position;
+        // Longer responses are read until the end of the range without a declared length
+        responseLength.set((length <= Integer.MAX_VALUE) ? (int) length : -1);
+    }
+
+    @Override
+    public boolean readResponse(byte[] dataOut, int bytesToRead, IntRef bytesRead, CefCallback callback) {
+        int length = (int) Math.min(bytesToRead, end - position);
+        if (length <= 0) {
+            bytesRead.set(0);
+            close(channel);
+            return false;
+        }
+        try {
+            int read = channel.read(ByteBuffer.wrap(dataOut, 0, length), position);
+            if (read <= 0) {
+                // The file was truncated while being read
+                bytesRead.set(0);
+                close(channel);
+                return false;
+            }
+            position += read;
+            bytesRead.set(read);
+            return true;
+        } catch (IOException e) {
+            LOG.error("Unable to read app data file.", e);
+            bytesRead.set(0);
+            close(channel);
+            return false;
+        }
+    }
+
+    @Override
+    public void cancel() {
+        close(channel);
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close app data file.", e);
+        }
+    }
+
+    /**
+     * A single range of a Range header, as the start and exclusive end offsets.
+     */
+    static final class ByteRange {
+        final long start;
+        final long end;
+
+        ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean isSatisfiable() {
+            return start < end;
+        }
+
+        /**
+         * @return The range requested by header for a file of the given size, or null if the whole file
+         *         should be sent: the header is malformed or asks for several ranges.
+         */
+        static ByteRange parse(String header, long size) {
+            String value = header.trim();
+            if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+                return null;
+            }
+            value = value.substring("bytes=".length()).trim();
+            int dash = value.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String first = value.substring(0, dash).trim();
+                String last = value.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // A suffix: the last N bytes
+                    if (last.isEmpty()) {
+                        return null;
+                    }
+                    long suffixLength = Long.parseLong(last);
+                    return new ByteRange(Math.max(0, size - suffixLength), size);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? size : Math.min(size, Long.parseLong(last) + 1);
+                if (end <= start && !last.isEmpty() && start < size) {
+                    // Last before first
+                    return null;
+                }
+                return (start >= size) ? new ByteRange(size, size) : new ByteRange(start, end);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes files by writing to a temporary file in the same directory and moving it into place,
+ * so a crash never leaves a partially written file at the target location.
+ */
+final class AtomicFiles {
+    private AtomicFiles() {
+    }
+
+    /**
+     * @return The number of bytes copied.
+     */
+    static long copy(InputStream inputStream, Path target) throws IOException {
+        Path temporaryFile = createTemporaryFile(target);
+        try {
+            long size = Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temporaryFile, target);
+            return size;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    static void write(Path target, byte[] contents) throws IOException {
+        Path temporaryFile = createTemporaryFile(target);
+        try {
+            Files.write(temporaryFile, contents);
+            moveIntoPlace(temporaryFile, target);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static Path createTemporaryFile(Path target) throws IOException {
+        return Files.createTempFile(target.toAbsolutePath().getParent(), "." + target.getFileName(), ".tmp");
+    }
+
+    private static void moveIntoPlace(Path temporaryFile, Path target) throws IOException {
+        try {
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.quarkiverse.cef;
+
+/**
+ * Invokes a method of a {@link JavaScriptBean}. Implementations are generated at build time.
+ */
+public interface BridgeMethodInvoker {
+    Object invoke(Object bean, Object[] arguments) throws Exception;
+}
@@ -0,0 +1,41 @@
+package io.quarkiverse.cef;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call counts and latencies of a {@link JavaScriptBean} method, measured from when the call is dispatched
+ * until its result is available.
+ */
+public class BridgeMethodMetrics {
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalTimeNanos = new LongAdder();
+    private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long durationNanos, boolean failed) {
+        callCount.increment();
+        if (failed) {
+            failureCount.increment();
+        }
+        totalTimeNanos.add(durationNanos);
+        maxTimeNanos.accumulate(durationNanos);
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getTotalTime(TimeUnit unit) {
+        return unit.convert(totalTimeNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTime(TimeUnit unit) {
+        return unit.convert(maxTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The persistent browser profile (HTTP cache, V8 code cache, cookies and local storage).
+ * <p>
+ * Every version of the project resources gets its own profile directory under the cache root, named after
+ * {@link ProjectResourceHashes#getVersion()}, so cached scripts and responses from an older version are
+ * never used with a newer one. Profiles of other versions are deleted in the background.
+ */
+final class BrowserCache {
+    private static final Logger LOG = Logger.getLogger(BrowserCache.class);
+
+    private BrowserCache() {
+    }
+
+    /**
+     * @return The command line switches that bound the size of the cache and make V8 cache compiled
+     *         code on first execution, instead of only once scripts are found to be hot.
+     */
+    static String[] getCommandLineSwitches(long maxSize) {
+        return new String[] { "--disk-cache-size=" + maxSize, "--v8-cache-options=code" };
+    }
+
+    /**
+     * Delete every profile under cacheRoot other than version.
+     */
+    static void deleteStaleVersions(Path cacheRoot, String version) {
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(cacheRoot)) {
+            for (Path versionDirectory : versions) {
+                if (!versionDirectory.getFileName().toString().equals(version)) {
+                    deleteRecursively(versionDirectory);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to delete stale browser caches in (" + cacheRoot + ").", e);
+        }
+    }
+
+    static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        Files.walkFileTree(path, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                if (e != null) {
+                    throw e;
+                }
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package io.quarkiverse.cef;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps browsers that have already loaded a page ready to be handed out, so opening a window for that
+ * page does not wait for a renderer process to start and the page to load. Every browser handed out is
+ * replaced in the background.
+ * <p>
+ * Renderer processes are not visible to the JVM, so the memory used by the pool is bounded by the number
+ * of browsers kept per page.
+ *
+ * @param <T> The type of browser
+ */
+final class BrowserPool<T> {
+    private static final Logger LOG = Logger.getLogger(BrowserPool.class);
+
+    private final Function<String, T> factory;
+    private final Consumer<T> disposer;
+    private final int size;
+    private final Map<String, Deque<T>> pageToBrowsersMap;
+    private final ExecutorService executorService;
+    private boolean closed;
+
+    /**
+     * @param factory Creates a hidden browser that loads the given page
+     * @param disposer Disposes a browser that was never handed out
+     * @param pages The pages to keep browsers for
+     * @param size The number of browsers to keep for each page
+     */
+    BrowserPool(Function<String, T> factory, Consumer<T> disposer, Collection<String> pages, int size) {
+        this.factory = factory;
+        this.disposer = disposer;
+        this.size = size;
+        this.pageToBrowsersMap = new HashMap<>();
+        for (String page : pages) {
+            pageToBrowsersMap.put(page, new ArrayDeque<>(size));
+        }
+        this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quarkus-cef-browser-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create the browsers for every page in the background.
+     */
+    void fill() {
+        for (String page : pageToBrowsersMap.keySet()) {
+            for (int i = 0; i < size; i++) {
+                replenish(page);
+            }
+        }
+    }
+
+    /**
+     * @return A browser that already loaded page, or null if none is ready. A replacement is created in the
+     *         background.
+     */
+    T take(String page) {
+        T browser;
+        synchronized (this) {
+            Deque<T> browsers = pageToBrowsersMap.get(page);
+            if (browsers == null || closed) {
+                return null;
+            }
+            browser = browsers.pollFirst();
+        }
+        replenish(page);
+        return browser;
+    }
+
+    private void replenish(String page) {
+        executorService.execute(() -> {
+            synchronized (this) {
+                if (closed || pageToBrowsersMap.get(page).size() >= size) {
+                    return;
+                }
+            }
+            T browser;
+            try {
+                browser = factory.apply(page);
+            } catch (RuntimeException e) {
+                LOG.debug("Unable to create a pooled browser for (" + page + ").", e);
+                return;
+            }
+            boolean added;
+            synchronized (this) {
+                added = !closed && pageToBrowsersMap.get(page).size() < size;
+                if (added) {
+                    pageToBrowsersMap.get(page).addLast(browser);
+                }
+            }
+            if (!added) {
+                disposer.accept(browser);
+            }
+        });
+    }
+
+    /**
+     * Apply action to every browser currently in the pool.
+     */
+    void forEach(Consumer<T> action) {
+        List<T> browsers = new ArrayList<>();
+        synchronized (this) {
+            pageToBrowsersMap.values().forEach(browsers::addAll);
+        }
+        browsers.forEach(action);
+    }
+
+    /**
+     * Dispose every browser in the pool and stop creating new ones.
+     */
+    void close() {
+        List<T> browsers = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Deque<T> pageBrowsers : pageToBrowsersMap.values()) {
+                browsers.addAll(pageBrowsers);
+                pageBrowsers.clear();
+            }
+        }
+        executorService.shutdownNow();
+        browsers.forEach(disposer);
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.cef;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandlerAdapter;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefRequest;
+import org.cef.network.CefResponse;
+
+/**
+ * A {@link org.cef.handler.CefResourceHandler} that serves a response held entirely in a {@link ByteBuffer}.
+ * The buffer is read from its current position to its limit; callers that share a buffer between
+ * handlers should pass a {@link ByteBuffer#duplicate()}.
+ */
+class BufferResourceHandler extends CefResourceHandlerAdapter {
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final int status;
+    private final String statusText;
+    private final String mimeType;
+    private final Map<String, String> headers;
+    private final ByteBuffer body;
+
+    BufferResourceHandler(int status, String statusText, String mimeType, Map<String, String> headers,
+            ByteBuffer body) {
+        this.status = status;
+        this.statusText = statusText;
+        this.mimeType = mimeType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    static BufferResourceHandler ok(String mimeType, Map<String, String> headers, ByteBuffer body) {
+        return new BufferResourceHandler(200, "OK", mimeType, headers, body);
+    }
+
+    static BufferResourceHandler notModified(Map<String, String> headers) {
+        return new BufferResourceHandler(304, "Not Modified", null, headers, EMPTY);
+    }
+
+    static BufferResourceHandler notFound() {
+        return new BufferResourceHandler(404, "Not Found", "text/plain", Map.of(), EMPTY);
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean processRequest(CefRequest request, CefCallback callback) {
+        callback.Continue();
+        return true;
+    }
+
+    @Override
+    public void getResponseHeaders(CefResponse response, IntRef responseLength, StringRef redirectUrl) {
+        response.setStatus(status);
+        response.setStatusText(statusText);
+        if (mimeType != null) {
+            response.setMimeType(mimeType);
+        }
+        response.setHeaderMap(headers);
+        responseLength.set(body.remaining());
+    }
+
+    @Override
+    public boolean readResponse(byte[] dataOut, int bytesToRead, IntRef bytesRead, CefCallback callback) {
+        int length = Math.min(bytesToRead, body.remaining());
+        if (length <= 0) {
+            bytesRead.set(0);
+            return false;
+        }
+        body.get(dataOut, 0, length);
+        bytesRead.set(length);
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkiverse.cef;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot(name = "cef", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
 public class CefBuildTimeConfig {
@@ -12,4 +13,42 @@ public class CefBuildTimeConfig {
      */
     @ConfigItem(defaultValue = "/ui")
     public String resourceRoot;
+
+    /**
+     * Pack every resource under ${quarkus.cef.resource-root} into a single indexed archive at build time.
+     * Required by quarkus.cef.resource-delivery=archive. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean packResources;
+
+    /**
+     * Store HTML, CSS, Javascript, JSON and SVG resources gzip compressed in the archive built by
+     * ${quarkus.cef.pack-resources}, which keeps them compressed on disk and in memory. They are inflated
+     * for every request, or sent with Content-Encoding: gzip if the browser accepts it. Has no effect
+     * without ${quarkus.cef.pack-resources}: the application jar keeps every original resource, which the
+     * extract and classpath deliveries read, so compressed variants would only add to it. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compressResources;
+
+    /**
+     * Resources smaller than this are not compressed. Defaults to 1K.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize compressionThreshold;
+
+    /**
+     * Optimize resources in production builds: remove source maps, inline images and fonts smaller than
+     * ${quarkus.cef.inline-threshold} into the style sheets referencing them, and minify CSS and HTML.
+     * Resource transformers contributed by other extensions are applied either way. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean optimizeResources;
+
+    /**
+     * Images and fonts up to this size, referenced from style sheets with relative url()s, are inlined as
+     * data: URLs by ${quarkus.cef.optimize-resources}. 0 disables inlining. Defaults to 4K.
+     */
+    @ConfigItem(defaultValue = "4K")
+    public MemorySize inlineThreshold;
 }
@@ -0,0 +1,20 @@
+package io.quarkiverse.cef;
+
+import io.quarkus.dev.spi.HotReplacementContext;
+import io.quarkus.dev.spi.HotReplacementSetup;
+
+/**
+ * Gives {@link DevResourceSync} access to the source directories of the application in dev mode.
+ */
+public class CefHotReplacementSetup implements HotReplacementSetup {
+
+    @Override
+    public void setupHotDeployment(HotReplacementContext context) {
+        DevResourceSync.setHotReplacementContext(context);
+    }
+
+    @Override
+    public void close() {
+        DevResourceSync.setHotReplacementContext(null);
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkiverse.cef;
+
+import java.util.function.Function;
+
+/**
+ * Receives timings and counts from {@link HTMLApp}. When quarkus-micrometer is present, these are
+ * published as Micrometer meters; otherwise they are discarded.
+ */
+public interface CefMetrics {
+
+    /**
+     * Record how long an initialization phase, such as "cef-load" or "extract-resources", took.
+     */
+    void recordPhase(String phase, long nanos);
+
+    /**
+     * Record the result of extracting resources into the install directory.
+     *
+     * @param changedResources The number of resources added, removed or changed since the previous run
+     * @param extractedFiles The number of files written
+     * @param extractedBytes The total size of the files written
+     * @param deletedFiles The number of files deleted
+     */
+    void recordExtraction(int changedResources, int extractedFiles, long extractedBytes, int deletedFiles);
+
+    /**
+     * Record how long creating a browser and its window took.
+     */
+    void recordBrowserCreation(long nanos);
+
+    /**
+     * Record the time from the start of a page load until it finished.
+     *
+     * @param url The URL of the page, without its query or fragment
+     * @param httpStatusCode The HTTP status code of the page, or 0 for non HTTP schemes
+     */
+    void recordPageLoad(String url, int httpStatusCode, long nanos);
+
+    /**
+     * Record the performance metrics collected from a page with {@link HTMLFrame#getPerformanceMetrics()}.
+     */
+    void recordPagePerformance(PagePerformanceMetrics metrics);
+
+    /**
+     * Called once CEF is initialized, so gauges of open windows can be registered.
+     */
+    void bindWindowRegistry(WindowRegistry windowRegistry);
+
+    /**
+     * Called once the location of the project resources is known, so metrics of pages can be reported per
+     * project resource rather than per URL.
+     *
+     * @param urlToProjectResource Returns the project resource shown at a URL, or null if the URL is not a page of
+     *        the application
+     */
+    void bindProjectResources(Function<String, String> urlToProjectResource);
+}
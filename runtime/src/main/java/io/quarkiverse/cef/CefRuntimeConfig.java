@@ -1,8 +1,13 @@
 package io.quarkiverse.cef;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot(name = "cef", phase = ConfigPhase.RUN_TIME)
 public class CefRuntimeConfig {
@@ -23,4 +28,141 @@ public class CefRuntimeConfig {
     @ConfigItem(defaultValue = "/index.html")
     public String startPage;
 
+    /**
+     * How resources under ${quarkus.cef.resource-root} are delivered to the browser.
+     * "extract" copies resources into the install directory and loads them from file:// URLs.
+     * "classpath" serves resources directly from the classpath using quarkus-app:// URLs,
+     * without copying anything to disk.
+     * "archive" copies the single archive generated by quarkus.cef.pack-resources into the install directory,
+     * memory maps it, and serves resources from it using quarkus-app:// URLs.
+     * Defaults to extract.
+     */
+    @ConfigItem(defaultValue = "extract")
+    public ResourceDelivery resourceDelivery;
+
+    /**
+     * The maximum amount of memory used to cache resources served from the classpath.
+     * Defaults to 32M.
+     */
+    @ConfigItem(defaultValue = "32M")
+    public MemorySize resourceCacheSize;
+
+    /**
+     * Install and load CEF in the background as soon as the application starts, instead of on the
+     * first call to HTMLApp.open(). Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean eagerInit;
+
+    /**
+     * The minimum time between two batches of values sent to a page through an HTMLFrame push channel.
+     * Values published more often than this are coalesced, keeping only the latest value for each key.
+     * Defaults to 16ms.
+     */
+    @ConfigItem(defaultValue = "16ms")
+    public Duration pushInterval;
+
+    /**
+     * Enable off-screen rendering, so HTMLApp.openWindowless() can render pages without any window,
+     * for instance for thumbnails, kiosks running under Xvfb, or automated UI tests. Windows opened with
+     * HTMLApp.open() are unaffected. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean windowless;
+
+    /**
+     * The maximum number of frames per second passed to the consumers of a windowless browser.
+     * Defaults to 30.
+     */
+    @ConfigItem(defaultValue = "30")
+    public int windowlessFrameRate;
+
+    /**
+     * Persist the HTTP cache and V8 code cache in the cef-cache directory of the install directory, so warm
+     * starts reuse cached responses and compiled scripts. The cache is discarded whenever the project
+     * resources change. It is kept next to, not in, the app data directory, since pages can read files in
+     * the app data directory. Session cookies are not persisted. If false, every launch starts with an
+     * empty in-memory profile. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean cache;
+
+    /**
+     * The maximum size of the HTTP disk cache. Defaults to 64M.
+     */
+    @ConfigItem(defaultValue = "64M")
+    public MemorySize cacheSize;
+
+    /**
+     * When resources are extracted, store the contents of every resource once per hash, and build each
+     * version of the resources from hard links to the stored contents (or copies, where hard links are not
+     * supported). Upgrading only writes new contents, and switching back to a version that is still
+     * installed writes nothing. Only applies when ${quarkus.cef.resource-delivery} is extract.
+     * Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean resourceStore;
+
+    /**
+     * The number of resource versions kept by ${quarkus.cef.resource-store}, including the active one.
+     * Contents only used by removed versions are deleted in the background. Defaults to 2.
+     */
+    @ConfigItem(defaultValue = "2")
+    public int resourceStoreRetainedVersions;
+
+    /**
+     * When resources are extracted, only extract the start page and ${quarkus.cef.critical-resources}
+     * before the first window opens. Every other resource is extracted the first time the browser requests
+     * it, or by a background prefetch, whichever comes first. Ignored when ${quarkus.cef.resource-store}
+     * is enabled. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean lazyExtraction;
+
+    /**
+     * Resources, relative to ${quarkus.cef.resource-root}, that ${quarkus.cef.lazy-extraction} extracts
+     * along with the start page before the first window opens; typically the scripts and styles the start
+     * page loads. Defaults to none.
+     */
+    @ConfigItem
+    public Optional<List<String>> criticalResources;
+
+    /**
+     * Install the CEF libraries once per JCEF version into ${quarkus.cef.shared-libraries-directory}, and
+     * share them with every other application that enables this, instead of installing a copy into the install
+     * directory of each application. Defaults to false.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean sharedLibraries;
+
+    /**
+     * Where ${quarkus.cef.shared-libraries} installs the CEF libraries. $APPDATA is substituted as in
+     * ${quarkus.cef.install-directory}. Defaults to "$APPDATA/quarkus-apps/.cef-libs".
+     */
+    @ConfigItem(defaultValue = "$APPDATA/quarkus-apps/.cef-libs")
+    public String sharedLibrariesDirectory;
+
+    /**
+     * Shared CEF versions not used by any application for this long are deleted in the background.
+     * Defaults to 30 days.
+     */
+    @ConfigItem(defaultValue = "P30D")
+    public Duration sharedLibrariesMaxUnusedAge;
+
+    /**
+     * The number of hidden browsers kept ready for each of ${quarkus.cef.start-page} and
+     * ${quarkus.cef.warm-pool-pages}, with the page already loaded. HTMLApp.open() shows one of them instead
+     * of creating a new browser, and a replacement is created in the background. Every pooled browser has its
+     * own renderer process, so this bounds the memory used by the pool. 0 disables the pool. Defaults to 0.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int warmPoolSize;
+
+    /**
+     * Pages, relative to ${quarkus.cef.resource-root}, that ${quarkus.cef.warm-pool-size} keeps browsers
+     * ready for in addition to the start page, for use with HTMLApp.open(String). Defaults to none.
+     */
+    @ConfigItem
+    public Optional<List<String>> warmPoolPages;
+
 }
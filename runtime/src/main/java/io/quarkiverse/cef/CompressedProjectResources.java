@@ -0,0 +1,27 @@
+package io.quarkiverse.cef;
+
+import java.util.Set;
+
+/**
+ * The project resources that have a gzip compressed variant generated at build time.
+ */
+public class CompressedProjectResources {
+    public static final String COMPRESSED_RESOURCE_ROOT = "META-INF/quarkus-cef/compressed";
+
+    final Set<String> compressedProjectResources;
+
+    CompressedProjectResources(Set<String> compressedProjectResources) {
+        this.compressedProjectResources = compressedProjectResources;
+    }
+
+    /**
+     * Returns the name of the resource containing the gzip compressed variant of resource.
+     */
+    public static String getCompressedResource(String resource) {
+        return COMPRESSED_RESOURCE_ROOT + (resource.startsWith("/") ? resource : "/" + resource) + ".gz";
+    }
+
+    public boolean isCompressed(String resource) {
+        return compressedProjectResources.contains(resource);
+    }
+}
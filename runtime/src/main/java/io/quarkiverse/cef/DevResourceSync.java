@@ -0,0 +1,156 @@
+package io.quarkiverse.cef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.dev.spi.HotReplacementContext;
+
+/**
+ * Watches the source resource directories in dev mode and reports changed project resources, so edits
+ * show up in open windows without restarting the application.
+ * <p>
+ * Changes are reported straight from the source directories instead of waiting for Quarkus to scan for
+ * changes, which only happens on HTTP requests or when requested from the console.
+ */
+final class DevResourceSync implements Closeable {
+    private static final Logger LOG = Logger.getLogger(DevResourceSync.class);
+    // Editors often write a file in several steps; report them together
+    private static final long DEBOUNCE_MILLIS = 20;
+
+    private static volatile HotReplacementContext hotReplacementContext;
+
+    private final Map<Path, Path> watchedDirectoryToResourceDirectoryMap;
+    private final Consumer<Map<String, Path>> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * @param resourceDirectories The source resource directories, such as src/main/resources
+     * @param resourceRoot The resource root inside them, such as /ui
+     * @param listener Called with every changed resource and the source file it was changed in
+     */
+    DevResourceSync(List<Path> resourceDirectories, String resourceRoot, Consumer<Map<String, Path>> listener)
+            throws IOException {
+        this.watchedDirectoryToResourceDirectoryMap = new HashMap<>();
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        String relativeResourceRoot = resourceRoot.startsWith("/") ? resourceRoot.substring(1) : resourceRoot;
+        for (Path resourceDirectory : resourceDirectories) {
+            Path watchedRoot = resourceDirectory.resolve(relativeResourceRoot);
+            if (Files.isDirectory(watchedRoot)) {
+                registerRecursively(watchedRoot, resourceDirectory);
+            }
+        }
+        this.thread = new Thread(this::run, "quarkus-cef-dev-resource-sync");
+        this.thread.setDaemon(true);
+    }
+
+    static void setHotReplacementContext(HotReplacementContext context) {
+        hotReplacementContext = context;
+    }
+
+    /**
+     * @return The source resource directories of the application, or an empty list if it is not
+     *         running in dev mode.
+     */
+    static List<Path> getSourceResourceDirectories() {
+        HotReplacementContext context = hotReplacementContext;
+        return (context != null) ? context.getResourcesDir() : List.of();
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    private void registerRecursively(Path directory, Path resourceDirectory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path subdirectory, BasicFileAttributes attributes)
+                    throws IOException {
+                subdirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectoryToResourceDirectoryMap.put(subdirectory, resourceDirectory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Map<String, Path> changedResources = new TreeMap<>();
+                WatchKey watchKey = watchService.take();
+                while (watchKey != null) {
+                    collectChanges(watchKey, changedResources);
+                    watchKey = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!changedResources.isEmpty()) {
+                    try {
+                        listener.accept(changedResources);
+                    } catch (RuntimeException e) {
+                        LOG.error("Unable to sync changed resources " + changedResources.keySet() + ".", e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private void collectChanges(WatchKey watchKey, Map<String, Path> changedResources) {
+        Path directory = (Path) watchKey.watchable();
+        Path resourceDirectory = watchedDirectoryToResourceDirectoryMap.get(directory);
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || resourceDirectory == null) {
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (Files.isDirectory(file)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    try {
+                        registerRecursively(file, resourceDirectory);
+                    } catch (IOException e) {
+                        LOG.debug("Unable to watch directory (" + file + ").", e);
+                    }
+                }
+            } else if (Files.isRegularFile(file)) {
+                changedResources.put(getResource(resourceDirectory, file), file);
+            }
+        }
+        watchKey.reset();
+    }
+
+    private static String getResource(Path resourceDirectory, Path file) {
+        StringBuilder out = new StringBuilder();
+        for (Path part : resourceDirectory.relativize(file)) {
+            out.append('/');
+            out.append(part.getFileName());
+        }
+        return out.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+}
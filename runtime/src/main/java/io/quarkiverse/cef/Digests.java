@@ -0,0 +1,38 @@
+package io.quarkiverse.cef;
+
+final class Digests {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Digests() {
+    }
+
+    static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex string (" + hex + ") has an odd length.");
+        }
+        byte[] out = new byte[hex.length() / 2];
+        for (int i = 0; i < out.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high == -1 || low == -1) {
+                throw new IllegalArgumentException("Hex string (" + hex + ") contains a non-hex character.");
+            }
+            out[i] = (byte) ((high << 4) | low);
+        }
+        return out;
+    }
+
+    static String toHex(byte[] bytes) {
+        return toHex(bytes, 0, bytes.length);
+    }
+
+    static String toHex(byte[] bytes, int offset, int length) {
+        char[] out = new char[2 * length];
+        for (int i = 0; i < length; i++) {
+            int value = bytes[offset + i] & 0xFF;
+            out[2 * i] = HEX_DIGITS[value >>> 4];
+            out[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(out);
+    }
+}
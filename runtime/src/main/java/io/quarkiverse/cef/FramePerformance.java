@@ -0,0 +1,57 @@
+package io.quarkiverse.cef;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cef.browser.CefBrowser;
+
+/**
+ * The performance requests of a single {@link HTMLFrame} that are waiting for the page to answer.
+ */
+class FramePerformance {
+    // A page that navigated away, or was not loaded with the bridge script, never answers
+    private static final long RESPONSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final CefBrowser browser;
+    private final AtomicLong nextId;
+    private final Map<Long, CompletableFuture<Object>> idToResponseMap;
+
+    FramePerformance(CefBrowser browser) {
+        this.browser = browser;
+        this.nextId = new AtomicLong();
+        this.idToResponseMap = new ConcurrentHashMap<>();
+    }
+
+    CompletableFuture<PagePerformanceMetrics> requestMetrics() {
+        return request("__performance", 0).thenApply(PagePerformanceMetrics.class::cast);
+    }
+
+    /**
+     * @return A future of the trace events recorded by the page during durationMillis, as JSON.
+     */
+    CompletableFuture<byte[]> requestTrace(long durationMillis) {
+        return request("__trace", durationMillis).thenApply(byte[].class::cast);
+    }
+
+    private CompletableFuture<Object> request(String function, long durationMillis) {
+        long id = nextId.incrementAndGet();
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        idToResponseMap.put(id, response);
+        response.orTimeout(durationMillis + RESPONSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .whenComplete((value, throwable) -> idToResponseMap.remove(id));
+        String arguments = (durationMillis > 0) ? id + ", " + durationMillis : Long.toString(id);
+        browser.executeJavaScript("window.quarkus && window.quarkus." + function + " && window.quarkus." + function
+                + "(" + arguments + ");", browser.getURL(), 0);
+        return response;
+    }
+
+    void complete(long id, Object value) {
+        CompletableFuture<Object> response = idToResponseMap.remove(id);
+        if (response != null) {
+            response.complete(value);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.cef;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.cef.browser.CefBrowser;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * The {@link PushChannel}s of a single {@link HTMLFrame}, and the state of their delivery to the page.
+ */
+class FramePushChannels {
+    private static final Logger LOG = Logger.getLogger(FramePushChannels.class);
+    // If the page does not acknowledge a batch in this time (for instance, because it navigated away),
+    // assume it was lost
+    private static final long ACKNOWLEDGEMENT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final CefBrowser browser;
+    private final PushChannelDispatcher dispatcher;
+    private final Map<String, PushChannel> nameToChannelMap;
+
+    private boolean flushScheduled;
+    private long unacknowledgedSequence;
+    private long unacknowledgedSince;
+    private long nextSequence;
+
+    FramePushChannels(CefBrowser browser, PushChannelDispatcher dispatcher) {
+        this.browser = browser;
+        this.dispatcher = dispatcher;
+        this.nameToChannelMap = new ConcurrentHashMap<>();
+        this.flushScheduled = false;
+        this.unacknowledgedSequence = -1;
+        this.nextSequence = 0;
+    }
+
+    CefBrowser getBrowser() {
+        return browser;
+    }
+
+    PushChannel getChannel(String name) {
+        return nameToChannelMap.computeIfAbsent(name, channelName -> new PushChannel(channelName, this));
+    }
+
+    synchronized void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            dispatcher.schedule(this::flush);
+        }
+    }
+
+    synchronized void acknowledge(long sequence) {
+        if (sequence == unacknowledgedSequence) {
+            unacknowledgedSequence = -1;
+        }
+    }
+
+    private void flush() {
+        long sequence;
+        synchronized (this) {
+            flushScheduled = false;
+            if (unacknowledgedSequence != -1
+                    && System.nanoTime() - unacknowledgedSince < ACKNOWLEDGEMENT_TIMEOUT_NANOS) {
+                // The page is behind; keep coalescing and check again next interval
+                scheduleFlush();
+                return;
+            }
+            sequence = nextSequence++;
+            unacknowledgedSequence = sequence;
+            unacknowledgedSince = System.nanoTime();
+        }
+
+        Map<String, Map<String, Object>> batch = new HashMap<>();
+        for (PushChannel channel : nameToChannelMap.values()) {
+            Map<String, Object> values = channel.drain();
+            if (!values.isEmpty()) {
+                batch.put(channel.getName(), values);
+            }
+        }
+        if (batch.isEmpty()) {
+            acknowledge(sequence);
+            return;
+        }
+        try {
+            browser.executeJavaScript("window.quarkus.__push(" + dispatcher.toJson(batch) + ", " + sequence + ");",
+                    "", 0);
+        } catch (JsonProcessingException e) {
+            acknowledge(sequence);
+            LOG.error("Unable to convert pushed values to JSON.", e);
+        }
+    }
+}
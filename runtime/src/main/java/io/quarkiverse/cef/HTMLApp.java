@@ -3,35 +3,60 @@ package io.quarkiverse.cef;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
+import javax.swing.SwingUtilities;
 
 import org.cef.CefApp;
 import org.cef.CefClient;
 import org.cef.CefSettings;
 import org.cef.JCefLoader;
 import org.cef.OS;
+import org.cef.browser.CefMessageRouter;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+
 @ApplicationScoped
 public class HTMLApp {
 
@@ -41,6 +66,24 @@ public class HTMLApp {
     @Inject
     ProjectResourceHashes projectResourceHashes;
 
+    @Inject
+    ProjectResourceProvider projectResourceProvider;
+
+    @Inject
+    JavaScriptBridge javaScriptBridge;
+
+    @Inject
+    PushChannelDispatcher pushChannelDispatcher;
+
+    @Inject
+    PagePerformanceCollector pagePerformanceCollector;
+
+    @Inject
+    CefMetrics cefMetrics;
+
+    @Inject
+    TransformedProjectResources transformedProjectResources;
+
     @ConfigProperty(name = "quarkus.application.name", defaultValue = "TEST")
     String applicationName;
 
@@ -50,8 +93,11 @@ public class HTMLApp {
     private static final Logger LOG = Logger.getLogger(HTMLApp.class);
 
     final String QUARKUS_CEF_MARKER_FILE = ".quarkus-cef-marker-file";
-    final String QUARKUS_CEF_RESOURCE_HASHES_FILE = ".quarkus-cef-resource-hashes";
+    final String QUARKUS_CEF_LEGACY_RESOURCE_HASHES_FILE = ".quarkus-cef-resource-hashes";
+    final String QUARKUS_CEF_RESOURCE_MANIFEST_FILE = ".quarkus-cef-resource-manifest";
+    final String QUARKUS_CEF_RESOURCE_ARCHIVE_FILE = "resources.pack";
     final String SEPERATOR_CHAR = FileSystems.getDefault().getSeparator();
+    final int MAX_EXTRACTION_THREADS = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
 
     Path installPath;
     Path appDataDirectory;
@@ -60,14 +106,32 @@ public class HTMLApp {
     CefApp cefApp;
     CefClient cefClient;
 
-    Lock windowActiveLock;
-    CefClientActiveCondition cefClientActiveCondition;
-    Condition windowActiveCondition;
+    WindowRegistry windowRegistry;
+
+    private ResourceStore resourceStore;
+    private LazyResourceExtractor lazyResourceExtractor;
+
+    private DevResourceSync devResourceSync;
+    private SharedLibraryCache sharedLibraryCache;
+    private volatile BrowserPool<HTMLFrame> browserPool;
+
+    private ScheduledExecutorService windowlessScheduledExecutorService;
+
+    private final OnceInitializer initializer = new OnceInitializer(this::init);
 
     private String sanitizeName(String name) {
         return URLEncoder.encode(name, Charset.defaultCharset());
     }
 
+    /**
+     * Substitute $APPDATA and $APPNAME in a configured directory, and use the platform separator.
+     */
+    private String resolveDirectory(String directory) {
+        String directoryForPlatform = directory.replaceAll("/", SEPERATOR_CHAR);
+        return directoryForPlatform.replaceAll("\\$APPDATA", getSystemDataDirectory())
+                .replaceAll("\\$APPNAME", sanitizeName(applicationName));
+    }
+
     private String getSystemDataDirectory() {
         String appDataDirectory;
         if (OS.isWindows()) {
@@ -98,19 +162,132 @@ public class HTMLApp {
         return appDataDirectory;
     }
 
+    /**
+     * Return the URL pages can use to load a file under the {@link #getAppDataDirectory() app data directory},
+     * such as a video or a large data set. The file is streamed from disk, and range requests are supported so
+     * media can seek.
+     *
+     * @param path The path of the file, relative to the app data directory
+     */
+    public String getAppDataUrl(String path) {
+        String urlPath = path.replace(SEPERATOR_CHAR, "/");
+        try {
+            return new URI(QuarkusAppSchemeHandlerFactory.SCHEME, QuarkusAppSchemeHandlerFactory.DATA_HOST,
+                    urlPath.startsWith("/") ? urlPath : "/" + urlPath, null).toASCIIString();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid app data path (" + path + ").", e);
+        }
+    }
+
     public HTMLFrame open() {
+        return open(cefRuntimeConfig.startPage);
+    }
+
+    /**
+     * Open a window showing page.
+     *
+     * @param page The page to show, relative to ${quarkus.cef.resource-root}
+     */
+    public HTMLFrame open(String page) {
         ensureInit();
-        return createBrowser(cefRuntimeConfig.startPage);
+        BrowserPool<HTMLFrame> pool = browserPool;
+        if (pool != null) {
+            long start = System.nanoTime();
+            HTMLFrame frame = pool.take(getPoolKey(page));
+            if (frame != null) {
+                frame.reveal(windowRegistry);
+                cefMetrics.recordBrowserCreation(System.nanoTime() - start);
+                return frame;
+            }
+        }
+        return createBrowser(page);
     }
 
-    private void ensureInit() {
-        if (shouldInit()) {
-            init();
+    /**
+     * Open the start page in an off-screen browser, without creating any window.
+     * Requires quarkus.cef.windowless=true.
+     *
+     * @param width The width of the rendered frames, in pixels
+     * @param height The height of the rendered frames, in pixels
+     */
+    public WindowlessBrowser openWindowless(int width, int height) {
+        if (!cefRuntimeConfig.windowless) {
+            throw new IllegalStateException("Windowless rendering is disabled! Set quarkus.cef.windowless=true.");
         }
+        ensureInit();
+        return new WindowlessBrowser(getUrl(cefRuntimeConfig.startPage), cefClient, width, height,
+                cefRuntimeConfig.windowlessFrameRate, getWindowlessScheduledExecutorService());
     }
 
-    private boolean shouldInit() {
-        return cefApp == null;
+    void onStart(@Observes StartupEvent startupEvent) {
+        if (cefRuntimeConfig.eagerInit) {
+            LOG.debug("Initializing CEF in the background.");
+            startDaemonThread("quarkus-cef-init", () -> {
+                try {
+                    ensureInit();
+                } catch (RuntimeException | Error e) {
+                    // Rethrown to whoever calls open()
+                    LOG.error("Unable to initialize CEF in the background.", e);
+                }
+            });
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent shutdownEvent) {
+        DevResourceSync sync;
+        SharedLibraryCache libraryCache;
+        BrowserPool<HTMLFrame> pool;
+        synchronized (this) {
+            sync = devResourceSync;
+            devResourceSync = null;
+            libraryCache = sharedLibraryCache;
+            sharedLibraryCache = null;
+            pool = browserPool;
+            browserPool = null;
+        }
+        if (pool != null) {
+            pool.close();
+        }
+        if (sync != null) {
+            try {
+                sync.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to stop watching resources.", e);
+            }
+        }
+        if (libraryCache != null) {
+            try {
+                // Lets other applications delete the shared CEF version once it is unused
+                libraryCache.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to release shared CEF.", e);
+            }
+        }
+    }
+
+    private void ensureInit() {
+        initializer.ensureInitialized();
+    }
+
+    private static Thread startDaemonThread(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Log and record the duration of an initialization phase.
+     *
+     * @param phase The name of the phase in metrics
+     * @param description The description of the phase in the log
+     * @return The current time, which is the start of the next phase
+     */
+    private long logPhase(String phase, String description, long startNanos) {
+        long now = System.nanoTime();
+        LOG.debug(description + " took " + TimeUnit.NANOSECONDS.toMillis(now - startNanos) + " ms.");
+        cefMetrics.recordPhase(phase, now - startNanos);
+        return now;
     }
 
     void ensureSafe(File installDirectory) throws IOException {
@@ -137,124 +314,533 @@ public class HTMLApp {
     }
 
     private void init() {
+        long initStart = System.nanoTime();
         try {
-            String cefInstallationDirectoryForPlatform = cefRuntimeConfig.installDirectory;
-            cefInstallationDirectoryForPlatform = cefInstallationDirectoryForPlatform.replaceAll("/", SEPERATOR_CHAR);
-            String installLocation = cefInstallationDirectoryForPlatform.replaceAll("\\$APPDATA", getSystemDataDirectory())
-                    .replaceAll("\\$APPNAME", sanitizeName(applicationName));
+            long phaseStart = initStart;
+            String installLocation = resolveDirectory(cefRuntimeConfig.installDirectory);
             File installDirectory = new File(installLocation);
             ensureSafe(installDirectory);
+            phaseStart = logPhase("ensure-safe", "Checking install directory (" + installLocation + ")", phaseStart);
 
             installPath = installDirectory.toPath();
 
             Path cefLibs = installPath.resolve("cef-libs");
             appDataDirectory = installPath.resolve("app-data");
-            appResourcesDirectory = installPath.resolve("app-resources");
+            if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.EXTRACT && cefRuntimeConfig.resourceStore) {
+                resourceStore = new ResourceStore(installPath, QUARKUS_CEF_RESOURCE_MANIFEST_FILE);
+                appResourcesDirectory = resourceStore.getVersionDirectory(projectResourceHashes.getVersion());
+            } else {
+                appResourcesDirectory = installPath.resolve("app-resources");
+                if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.EXTRACT && cefRuntimeConfig.lazyExtraction) {
+                    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                    lazyResourceExtractor = new LazyResourceExtractor(
+                            resource -> extractResource(classLoader, resource));
+                }
+            }
 
             Files.createDirectories(installPath);
             Files.createDirectories(cefLibs);
             Files.createDirectories(appDataDirectory);
             Files.createDirectories(appResourcesDirectory);
-            Files.writeString(installPath.resolve(QUARKUS_CEF_MARKER_FILE), "", StandardOpenOption.TRUNCATE_EXISTING);
-            extractResources();
+            Files.writeString(installPath.resolve(QUARKUS_CEF_MARKER_FILE), "", StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            phaseStart = logPhase("install-directory", "Preparing install directory (" + installPath + ")", phaseStart);
+
+            // Resources do not depend on CEF, so prepare them while the native libraries load
+            CompletableFuture<Void> resourcesReady = new CompletableFuture<>();
+            startDaemonThread("quarkus-cef-resources", () -> {
+                try {
+                    prepareResources();
+                    resourcesReady.complete(null);
+                } catch (Throwable t) {
+                    resourcesReady.completeExceptionally(t);
+                }
+            });
 
             CefSettings settings = new CefSettings();
-            settings.windowless_rendering_enabled = false;
-            cefApp = JCefLoader.installAndLoadCef(cefLibs.toFile(), settings);
+            settings.windowless_rendering_enabled = cefRuntimeConfig.windowless;
+            String[] commandLineSwitches = new String[0];
+            if (cefRuntimeConfig.cache) {
+                // Not under appDataDirectory, which pages can read through quarkus-app://data/
+                Path cacheRoot = installPath.resolve("cef-cache");
+                String cacheVersion = projectResourceHashes.getVersion();
+                Path cachePath = cacheRoot.resolve(cacheVersion);
+                Files.createDirectories(cachePath);
+                settings.root_cache_path = cacheRoot.toAbsolutePath().toString();
+                settings.cache_path = cachePath.toAbsolutePath().toString();
+                commandLineSwitches = BrowserCache.getCommandLineSwitches(cefRuntimeConfig.cacheSize.asLongValue());
+                startDaemonThread("quarkus-cef-cache-cleanup",
+                        () -> BrowserCache.deleteStaleVersions(cacheRoot, cacheVersion));
+            }
+            CefApp.addAppHandler(new QuarkusCefAppHandler(commandLineSwitches,
+                    new QuarkusAppSchemeHandlerFactory(projectResourceProvider, javaScriptBridge, appDataDirectory)));
+            cefApp = loadCef(cefLibs, settings);
+            phaseStart = logPhase("cef-load", "Installing and loading CEF", phaseStart);
             cefClient = cefApp.createClient();
-            windowActiveLock = new ReentrantLock();
-            cefClientActiveCondition = new CefClientActiveCondition(windowActiveLock);
-            windowActiveCondition = cefClientActiveCondition.getCondition();
+            windowRegistry = new WindowRegistry();
+            CefMessageRouter messageRouter = CefMessageRouter.create();
+            Path appPagesDirectory = appResourcesDirectory;
+            Predicate<String> isAppUrl = url -> QuarkusAppSchemeHandlerFactory.isAppUrl(url, appPagesDirectory);
+            messageRouter.addHandler(javaScriptBridge.createMessageRouterHandler(isAppUrl), true);
+            messageRouter.addHandler(pushChannelDispatcher.createMessageRouterHandler(windowRegistry), true);
+            messageRouter.addHandler(pagePerformanceCollector.createMessageRouterHandler(windowRegistry), true);
+            cefClient.addMessageRouter(messageRouter);
+            cefClient.addLoadHandler(new QuarkusCefLoadHandler(javaScriptBridge, cefMetrics, isAppUrl));
+            if (lazyResourceExtractor != null) {
+                cefClient.addRequestHandler(new LazyExtractionRequestHandler(appResourcesDirectory, lazyResourceExtractor));
+            }
+            cefMetrics.bindWindowRegistry(windowRegistry);
+            cefMetrics.bindProjectResources(url -> {
+                String resource = QuarkusAppSchemeHandlerFactory.getAppResource(url, appPagesDirectory, resourceRoot);
+                return (resource != null && projectResourceHashes.containsResource(resource)) ? resource : null;
+            });
+            phaseStart = logPhase("create-client", "Creating CEF client", phaseStart);
+
+            try {
+                resourcesReady.join();
+            } catch (CompletionException e) {
+                throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause()
+                        : new IllegalStateException(e.getCause());
+            }
+            logPhase("wait-resources", "Waiting for resources", phaseStart);
+            if (LaunchMode.current() == LaunchMode.DEVELOPMENT) {
+                startDevResourceSync();
+            }
+            if (cefRuntimeConfig.warmPoolSize > 0) {
+                startBrowserPool();
+            }
+            logPhase("init", "Initializing CEF", initStart);
         } catch (IOException e) {
             throw new IllegalStateException("Unable to install CEF.", e);
         }
     }
 
-    private void extractResources() {
-        if (!Files.exists(installPath.resolve(QUARKUS_CEF_RESOURCE_HASHES_FILE))) {
-            LOG.debug("First run; creating files.");
-            for (String resource : projectResourceHashes.getProjectResources()) {
-                InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource);
-                if (inputStream == null) {
-                    throw new IllegalStateException("Classpath resource (" + resource + ") does not exist.");
-                }
-                Path copyLocation = getResourcePath(resource);
-                LOG.debug("Creating (" + copyLocation + ").");
+    private CefApp loadCef(Path cefLibs, CefSettings settings) throws IOException {
+        if (cefRuntimeConfig.sharedLibraries) {
+            String jcefVersion = SharedLibraryCache.getJcefVersion();
+            if (jcefVersion == null) {
+                LOG.warn("Unable to determine the JCEF version; installing CEF into (" + cefLibs + ") instead of sharing it.");
+            } else {
+                Path sharedLibrariesPath = Path.of(resolveDirectory(cefRuntimeConfig.sharedLibrariesDirectory));
+                SharedLibraryCache cache = new SharedLibraryCache(sharedLibrariesPath, jcefVersion);
                 try {
-                    Files.createDirectories(copyLocation.getParent());
-                    Files.copy(inputStream, copyLocation, StandardCopyOption.REPLACE_EXISTING);
+                    CefApp out = cache.load(directory -> JCefLoader.installAndLoadCef(directory, settings));
+                    synchronized (this) {
+                        sharedLibraryCache = cache;
+                    }
+                    startDaemonThread("quarkus-cef-shared-libraries-gc",
+                            () -> cache.collectGarbage(cefRuntimeConfig.sharedLibrariesMaxUnusedAge));
+                    return out;
                 } catch (IOException e) {
-                    throw new IllegalStateException(
-                            "Unable to copy classpath resource (" + resource + ") to (" + copyLocation + ").", e);
+                    cache.close();
+                    LOG.warn("Unable to use shared CEF in (" + sharedLibrariesPath + "); installing into (" + cefLibs
+                            + ") instead.", e);
                 }
             }
-            writeResourceHashes();
         }
-        ProjectResourceHashes oldHashes = readProjectResourceHashes();
-        Collection<String> changedFiles = projectResourceHashes.getChangedResources(oldHashes);
+        return JCefLoader.installAndLoadCef(cefLibs.toFile(), settings);
+    }
+
+    private void startBrowserPool() {
+        Set<String> pages = new LinkedHashSet<>();
+        pages.add(getPoolKey(cefRuntimeConfig.startPage));
+        cefRuntimeConfig.warmPoolPages.ifPresent(warmPoolPages -> {
+            for (String page : warmPoolPages) {
+                pages.add(getPoolKey(page));
+            }
+        });
+        BrowserPool<HTMLFrame> pool = new BrowserPool<>(this::createPooledFrame,
+                frame -> SwingUtilities.invokeLater(frame::dispose), pages, cefRuntimeConfig.warmPoolSize);
+        synchronized (this) {
+            browserPool = pool;
+        }
+        pool.fill();
+    }
+
+    /**
+     * Create a hidden frame for the browser pool. Called from the pool's thread, so the frame is created on the
+     * event dispatch thread, like every other Swing component.
+     */
+    private HTMLFrame createPooledFrame(String page) {
+        AtomicReference<HTMLFrame> frame = new AtomicReference<>();
+        try {
+            SwingUtilities.invokeAndWait(() -> frame.set(new HTMLFrame(getUrl(page), cefClient, pushChannelDispatcher)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating a pooled browser for (" + page + ").", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create a pooled browser for (" + page + ").", e.getCause());
+        }
+        return frame.get();
+    }
+
+    private static String getPoolKey(String page) {
+        return page.startsWith("/") ? page : "/" + page;
+    }
+
+    private void startDevResourceSync() {
+        List<Path> resourceDirectories = DevResourceSync.getSourceResourceDirectories();
+        if (resourceDirectories.isEmpty()) {
+            return;
+        }
+        try {
+            DevResourceSync sync = new DevResourceSync(resourceDirectories, resourceRoot, this::syncDevResources);
+            synchronized (this) {
+                devResourceSync = sync;
+            }
+            sync.start();
+            LOG.debug("Watching (" + resourceDirectories + ") for resource changes.");
+        } catch (IOException e) {
+            LOG.warn("Unable to watch resources for changes; edited resources are only used after a restart.", e);
+        }
+    }
+
+    /**
+     * Make open windows use resources edited in dev mode, without restarting the application: the edited
+     * files are served instead of the built ones (and copied into the install directory when resources are
+     * extracted), then every open window is reloaded.
+     */
+    void syncDevResources(Map<String, Path> changedResources) {
+        long start = System.nanoTime();
+        int syncedResourceCount = 0;
+        for (Map.Entry<String, Path> changedResource : changedResources.entrySet()) {
+            String resource = changedResource.getKey();
+            Path file = changedResource.getValue();
+            if (!projectResourceHashes.containsResource(resource)) {
+                LOG.debug("Resource (" + resource + ") is new; it is used after the next restart.");
+                continue;
+            }
+            projectResourceProvider.useDevResource(resource, file);
+            if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.EXTRACT) {
+                if (lazyResourceExtractor != null) {
+                    // Otherwise a pending extraction would overwrite the edited resource
+                    lazyResourceExtractor.ensureExtracted(resource);
+                }
+                Path targetPath = getResourcePath(resource);
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    // Replaces rather than writes through the file, which may be hard linked into the resource store
+                    AtomicFiles.copy(inputStream, targetPath);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unable to copy resource (" + file + ") to (" + targetPath + ").", e);
+                }
+            }
+            syncedResourceCount++;
+        }
+        if (syncedResourceCount == 0) {
+            return;
+        }
+        if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.EXTRACT) {
+            // The installed resources no longer match the manifest; have the next run check every file
+            Path resourceManifestPath = (resourceStore != null)
+                    ? resourceStore.getManifestPath(projectResourceHashes.getVersion())
+                    : installPath.resolve(QUARKUS_CEF_RESOURCE_MANIFEST_FILE);
+            try {
+                Files.deleteIfExists(resourceManifestPath);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to delete resource manifest (" + resourceManifestPath + ").", e);
+            }
+        }
+        for (HTMLFrame frame : windowRegistry.getOpenFrames()) {
+            frame.getBrowser().reloadIgnoreCache();
+        }
+        BrowserPool<HTMLFrame> pool = browserPool;
+        if (pool != null) {
+            pool.forEach(frame -> frame.getBrowser().reloadIgnoreCache());
+        }
+        LOG.debug("Synced " + syncedResourceCount + " changed resources in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms.");
+    }
+
+    private void prepareResources() {
+        long phaseStart = System.nanoTime();
+        if (resourceStore != null) {
+            installResourceVersion();
+            logPhase("install-resource-version", "Installing resource version", phaseStart);
+        } else if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.EXTRACT) {
+            extractResources();
+            logPhase("extract-resources", "Extracting resources", phaseStart);
+        } else if (cefRuntimeConfig.resourceDelivery == ResourceDelivery.ARCHIVE) {
+            Path archivePath = installResourceArchive();
+            try {
+                projectResourceProvider.useArchive(ResourceArchive.open(archivePath));
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to open resource archive (" + archivePath + ").", e);
+            }
+            logPhase("install-archive", "Installing resource archive", phaseStart);
+        }
+    }
+
+    void extractResources() {
+        Path resourceManifestPath = installPath.resolve(QUARKUS_CEF_RESOURCE_MANIFEST_FILE);
+        Collection<String> changedFiles;
+        try {
+            if (ResourceManifest.hasAggregateDigest(resourceManifestPath, projectResourceHashes.aggregateDigest)) {
+                // Fast path: the installed resources are identical, so skip reading the manifest entirely
+                LOG.debug("No changed files detected.");
+                cefMetrics.recordExtraction(0, 0, 0, 0);
+                return;
+            }
+            ProjectResourceHashes oldHashes = Files.isRegularFile(resourceManifestPath)
+                    ? ResourceManifest.read(resourceManifestPath)
+                    : null;
+            if (oldHashes == null) {
+                LOG.debug("First run; creating files.");
+                changedFiles = projectResourceHashes.getSortedProjectResources();
+            } else {
+                changedFiles = projectResourceHashes.getChangedResources(oldHashes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read resource manifest (" + resourceManifestPath + ").", e);
+        }
         if (changedFiles.isEmpty()) {
             LOG.debug("No changed files detected.");
+            cefMetrics.recordExtraction(0, 0, 0, 0);
+            writeResourceManifest();
             return;
         }
 
+        List<String> deletedFiles = new ArrayList<>();
+        List<String> createdOrReplacedFiles = new ArrayList<>();
         for (String changedFile : changedFiles) {
-            Path targetPath = getResourcePath(changedFile);
+            if (projectResourceHashes.containsResource(changedFile)) {
+                createdOrReplacedFiles.add(changedFile);
+            } else {
+                deletedFiles.add(changedFile);
+            }
+        }
+
+        // Create every parent directory once up front, instead of once per file
+        Set<Path> directories = new TreeSet<>();
+        for (String createdOrReplacedFile : createdOrReplacedFiles) {
+            directories.add(getResourcePath(createdOrReplacedFile).getParent());
+        }
+        for (Path directory : directories) {
             try {
-                if (Files.exists(targetPath)
-                        && !projectResourceHashes.getProjectResourcePathToHashMap().containsKey(changedFile)) {
-                    LOG.debug("Deleting (" + targetPath + ") as the file no longer exists.");
-                    Files.delete(targetPath);
-                } else {
-                    LOG.debug("Creating/Replacing (" + targetPath + ") because it has changed since last run.");
-                    InputStream resourceInputStream = Thread.currentThread().getContextClassLoader()
-                            .getResourceAsStream(changedFile);
-                    if (resourceInputStream == null) {
-                        throw new IllegalStateException("Unable to find classpath resource (" + changedFile + ").");
-                    }
-                    Files.createDirectories(targetPath.getParent());
-                    Files.copy(resourceInputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
-                }
+                Files.createDirectories(directory);
             } catch (IOException e) {
-                throw new IllegalStateException("Unable to update changed file (" + changedFile + ").", e);
+                throw new IllegalStateException("Unable to create directory (" + directory + ").", e);
+            }
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicLong extractedBytes = new AtomicLong();
+        List<Callable<Void>> tasks = new ArrayList<>(changedFiles.size());
+        for (String deletedFile : deletedFiles) {
+            tasks.add(() -> {
+                Path targetPath = getResourcePath(deletedFile);
+                LOG.debug("Deleting (" + targetPath + ") as the file no longer exists.");
+                try {
+                    Files.deleteIfExists(targetPath);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unable to delete removed file (" + targetPath + ").", e);
+                }
+                return null;
+            });
+        }
+        List<String> deferredFiles = new ArrayList<>();
+        if (lazyResourceExtractor != null) {
+            // Only extract the start page and critical resources now; the rest are extracted when requested
+            Set<String> criticalResources = getCriticalResources();
+            List<String> eagerFiles = new ArrayList<>();
+            for (String createdOrReplacedFile : createdOrReplacedFiles) {
+                (criticalResources.contains(createdOrReplacedFile) ? eagerFiles : deferredFiles).add(createdOrReplacedFile);
+            }
+            createdOrReplacedFiles = eagerFiles;
+        }
+        for (String createdOrReplacedFile : createdOrReplacedFiles) {
+            tasks.add(() -> {
+                extractedBytes.addAndGet(extractResource(classLoader, createdOrReplacedFile));
+                return null;
+            });
+        }
+        runAll(tasks);
+
+        if (!deferredFiles.isEmpty()) {
+            LOG.debug("Deferring extraction of " + deferredFiles.size() + " resources.");
+            int eagerFileCount = createdOrReplacedFiles.size();
+            lazyResourceExtractor.defer(deferredFiles);
+            lazyResourceExtractor.prefetch(MAX_EXTRACTION_THREADS).whenComplete((prefetchedBytes, failure) -> {
+                if (failure != null) {
+                    // Without a manifest, the next run extracts these resources again
+                    LOG.error("Unable to extract deferred resources.", failure);
+                    return;
+                }
+                LOG.debug("Extracted " + deferredFiles.size() + " deferred resources.");
+                cefMetrics.recordExtraction(changedFiles.size(), eagerFileCount + deferredFiles.size(),
+                        extractedBytes.get() + prefetchedBytes, deletedFiles.size());
+                writeResourceManifest();
+            });
+            return;
+        }
+        cefMetrics.recordExtraction(changedFiles.size(), createdOrReplacedFiles.size(), extractedBytes.get(),
+                deletedFiles.size());
+
+        // Only record the new manifest once every file is in place, so an interrupted
+        // extraction is redone on the next run
+        writeResourceManifest();
+    }
+
+    private long extractResource(ClassLoader classLoader, String resource) {
+        Path targetPath = getResourcePath(resource);
+        LOG.debug("Creating/Replacing (" + targetPath + ") because it has changed since last run.");
+        try (InputStream resourceInputStream = classLoader
+                .getResourceAsStream(transformedProjectResources.getClasspathResource(resource))) {
+            if (resourceInputStream == null) {
+                throw new IllegalStateException("Classpath resource (" + resource + ") does not exist.");
             }
+            return AtomicFiles.copy(resourceInputStream, targetPath);
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Unable to copy classpath resource (" + resource + ") to (" + targetPath + ").", e);
         }
-        writeResourceHashes();
     }
 
-    private void writeResourceHashes() {
-        String fileData = projectResourceHashes.getResourceToHashStream().map(
-                resourceToHashEntry -> resourceToHashEntry.getKey() + "=" + resourceToHashEntry.getValue())
-                .collect(Collectors.joining("\n"));
+    /**
+     * @return The resources extracted before the first window opens when ${quarkus.cef.lazy-extraction}
+     *         is enabled: the start page and ${quarkus.cef.critical-resources}.
+     */
+    private Set<String> getCriticalResources() {
+        Set<String> criticalResources = new HashSet<>();
+        criticalResources.add(projectResourceProvider.getResourceForPath(cefRuntimeConfig.startPage));
+        cefRuntimeConfig.criticalResources.ifPresent(paths -> {
+            for (String path : paths) {
+                criticalResources.add(projectResourceProvider.getResourceForPath(path));
+            }
+        });
+        return criticalResources;
+    }
 
-        Path resourceHashes = installPath.resolve(QUARKUS_CEF_RESOURCE_HASHES_FILE);
+    /**
+     * Install the current version of the resources into the {@link ResourceStore}, writing only blobs
+     * that are not stored yet, and make it the active version.
+     */
+    private void installResourceVersion() {
+        String version = projectResourceHashes.getVersion();
+        Path versionDirectory = resourceStore.getVersionDirectory(version);
         try {
-            Files.writeString(resourceHashes, fileData);
+            // Garbage collection by another instance must not delete a version while it is being installed
+            resourceStore.withLock(() -> {
+                if (resourceStore.isComplete(version, projectResourceHashes.aggregateDigest)) {
+                    LOG.debug("Resource version (" + version + ") is already installed.");
+                    cefMetrics.recordExtraction(0, 0, 0, 0);
+                } else {
+                    LOG.debug("Installing resource version (" + version + ") into (" + versionDirectory + ").");
+                    List<String> resources = projectResourceHashes.getSortedProjectResources();
+                    Set<Path> directories = new TreeSet<>();
+                    for (String resource : resources) {
+                        directories.add(getResourcePath(resource).getParent());
+                    }
+                    for (Path directory : directories) {
+                        Files.createDirectories(directory);
+                    }
+
+                    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                    AtomicInteger storedBlobs = new AtomicInteger();
+                    AtomicLong storedBytes = new AtomicLong();
+                    List<Callable<Void>> tasks = new ArrayList<>(resources.size());
+                    for (String resource : resources) {
+                        tasks.add(() -> {
+                            String hash = projectResourceHashes.getHash(resource);
+                            Path targetPath = getResourcePath(resource);
+                            try (InputStream resourceInputStream = classLoader
+                                    .getResourceAsStream(transformedProjectResources.getClasspathResource(resource))) {
+                                if (resourceInputStream == null) {
+                                    throw new IllegalStateException("Classpath resource (" + resource + ") does not exist.");
+                                }
+                                long size = resourceStore.storeBlob(hash, resourceInputStream);
+                                if (size > 0) {
+                                    storedBlobs.incrementAndGet();
+                                    storedBytes.addAndGet(size);
+                                }
+                                resourceStore.link(hash, targetPath);
+                            } catch (IOException e) {
+                                throw new IllegalStateException(
+                                        "Unable to install classpath resource (" + resource + ") to (" + targetPath + ").", e);
+                            }
+                            return null;
+                        });
+                    }
+                    runAll(tasks);
+                    // Only record the manifest once every file is in place, so an interrupted install is redone
+                    ResourceManifest.write(resourceStore.getManifestPath(version), projectResourceHashes);
+                    cefMetrics.recordExtraction(storedBlobs.get(), storedBlobs.get(), storedBytes.get(), 0);
+                }
+                resourceStore.activate(version);
+                return null;
+            });
         } catch (IOException e) {
-            throw new IllegalStateException("Unable to write file hashes to (" + resourceHashes + ").", e);
+            throw new IllegalStateException("Unable to install resource version (" + versionDirectory + ").", e);
         }
+        startDaemonThread("quarkus-cef-resource-gc",
+                () -> resourceStore.collectGarbage(cefRuntimeConfig.resourceStoreRetainedVersions));
     }
 
-    private ProjectResourceHashes readProjectResourceHashes() {
-        Path resourceHashesPath = installPath.resolve(QUARKUS_CEF_RESOURCE_HASHES_FILE);
-        if (!Files.isRegularFile(resourceHashesPath)) {
-            throw new IllegalStateException("Project resource hashes file (" + resourceHashesPath + ") is not a regular file.");
+    private Path installResourceArchive() {
+        Path archivePath = installPath.resolve(QUARKUS_CEF_RESOURCE_ARCHIVE_FILE);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream headerInputStream = classLoader.getResourceAsStream(ResourceArchive.ARCHIVE_RESOURCE)) {
+            if (headerInputStream == null) {
+                throw new IllegalStateException("Resource archive (" + ResourceArchive.ARCHIVE_RESOURCE + ") does not exist. "
+                        + "Set quarkus.cef.pack-resources=true to generate it.");
+            }
+            if (ResourceArchive.hasSameHeader(headerInputStream, archivePath)) {
+                LOG.debug("Resource archive (" + archivePath + ") is up to date.");
+                return archivePath;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read resource archive (" + ResourceArchive.ARCHIVE_RESOURCE + ").", e);
+        }
+
+        LOG.debug("Creating/Replacing resource archive (" + archivePath + ").");
+        try (InputStream archiveInputStream = classLoader.getResourceAsStream(ResourceArchive.ARCHIVE_RESOURCE)) {
+            AtomicFiles.copy(archiveInputStream, archivePath);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to copy resource archive to (" + archivePath + ").", e);
         }
+        return archivePath;
+    }
+
+    private void runAll(List<Callable<Void>> tasks) {
+        int threadCount = Math.min(tasks.size(), MAX_EXTRACTION_THREADS);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "quarkus-cef-extract-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            List<String> resourceHashesLines = Files.readAllLines(resourceHashesPath);
-            Map<String, String> projectResourcePathToHashMap = new HashMap<>();
-            for (String resourceHashLine : resourceHashesLines) {
-                int pathHashSeperatorIndex = resourceHashLine.lastIndexOf('=');
-                if (pathHashSeperatorIndex == -1) {
-                    LOG.error("There are errors in (" + resourceHashesPath + "). Assuming all files has changed.");
-                    return new ProjectResourceHashes(Map.of());
+            RuntimeException failure = null;
+            for (Future<Void> future : executorService.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause()
+                                : new IllegalStateException(e.getCause());
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
                 }
-                String hash = resourceHashLine.substring(pathHashSeperatorIndex + 1);
-                String path = resourceHashLine.substring(0, pathHashSeperatorIndex);
-                projectResourcePathToHashMap.put(path, hash);
             }
-            return new ProjectResourceHashes(projectResourcePathToHashMap);
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while extracting resources.", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void writeResourceManifest() {
+        Path resourceManifestPath = installPath.resolve(QUARKUS_CEF_RESOURCE_MANIFEST_FILE);
+        try {
+            ResourceManifest.write(resourceManifestPath, projectResourceHashes);
+            // Remove the text manifest used by earlier versions
+            Files.deleteIfExists(installPath.resolve(QUARKUS_CEF_LEGACY_RESOURCE_HASHES_FILE));
         } catch (IOException e) {
-            throw new IllegalStateException("Unable to read project resource hashes file (" + resourceHashesPath + ").", e);
+            throw new IllegalStateException("Unable to write resource manifest to (" + resourceManifestPath + ").", e);
         }
     }
 
@@ -263,24 +849,64 @@ public class HTMLApp {
     }
 
     private HTMLFrame createBrowser(String resource) {
+        long start = System.nanoTime();
+        HTMLFrame frame = new HTMLFrame(getUrl(resource), cefClient, windowRegistry, pushChannelDispatcher);
+        cefMetrics.recordBrowserCreation(System.nanoTime() - start);
+        return frame;
+    }
+
+    private String getUrl(String resource) {
+        if (cefRuntimeConfig.resourceDelivery != ResourceDelivery.EXTRACT) {
+            return QuarkusAppSchemeHandlerFactory.getUrl(QuarkusAppSchemeHandlerFactory.APP_HOST, resource);
+        }
         try {
             String resourceRootPath = resourceRoot;
             if (!resourceRootPath.endsWith("/")) {
                 resourceRootPath = resourceRootPath + "/";
             }
             URL url = getResourcePath(resourceRootPath + resource).toUri().toURL();
-            return new HTMLFrame(url.toExternalForm(), cefClient, cefClientActiveCondition);
+            return url.toExternalForm();
         } catch (MalformedURLException e) {
             throw new IllegalStateException(e);
         }
     }
 
-    public void waitUntilClosed() {
-        if (shouldInit()) {
+    private synchronized ScheduledExecutorService getWindowlessScheduledExecutorService() {
+        if (windowlessScheduledExecutorService == null) {
+            windowlessScheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "quarkus-cef-windowless");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return windowlessScheduledExecutorService;
+    }
+
+    /**
+     * @return A stage that completes when every open window is closed.
+     */
+    public CompletionStage<Void> whenAllClosed() {
+        CompletableFuture<Void> future = initializer.getFuture();
+        if (future == null) {
             throw new IllegalStateException("CEF is not initialized! Call open() first.");
         }
-        windowActiveLock.lock();
-        windowActiveCondition.awaitUninterruptibly();
+        // The window registry is only assigned once initialization completes
+        return future.thenCompose(ignored -> windowRegistry.whenAllClosed());
+    }
+
+    /**
+     * @return A {@link Uni} that completes when every open window is closed.
+     */
+    public Uni<Void> whenAllClosedUni() {
+        return Uni.createFrom().completionStage(this::whenAllClosed);
+    }
+
+    /**
+     * Block the calling thread until every open window is closed. Prefer {@link #whenAllClosed()},
+     * which does not tie up a thread.
+     */
+    public void waitUntilClosed() {
+        whenAllClosed().toCompletableFuture().join();
     }
 
 }
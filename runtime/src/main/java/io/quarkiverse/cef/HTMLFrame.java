@@ -4,6 +4,11 @@ import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.swing.JFrame;
 
@@ -12,20 +17,43 @@ import org.cef.browser.CefBrowser;
 
 public class HTMLFrame extends JFrame {
     private final CefBrowser browser;
+    private final CompletableFuture<Void> closed;
+    private final FramePushChannels pushChannels;
+    private final FramePerformance performance;
 
-    public HTMLFrame(String url, CefClient client, CefClientActiveCondition cefClientActiveCondition) {
+    public HTMLFrame(String url, CefClient client, WindowRegistry windowRegistry,
+            PushChannelDispatcher pushChannelDispatcher) {
+        this(url, client, pushChannelDispatcher);
+        reveal(windowRegistry);
+    }
+
+    /**
+     * Create a hidden frame. Packing the frame creates the browser, which starts loading url while hidden.
+     */
+    HTMLFrame(String url, CefClient client, PushChannelDispatcher pushChannelDispatcher) {
         browser = client.createBrowser(url, false, false);
+        closed = new CompletableFuture<>();
+        pushChannels = new FramePushChannels(browser, pushChannelDispatcher);
+        performance = new FramePerformance(browser);
         Component browerUI = browser.getUIComponent();
         getContentPane().add(browerUI, BorderLayout.CENTER);
         pack();
         setSize(800, 600);
+    }
+
+    /**
+     * Show a hidden frame and track it as an open window.
+     */
+    void reveal(WindowRegistry windowRegistry) {
         setVisible(true);
-        cefClientActiveCondition.onCreate(this);
+        windowRegistry.onCreate(this);
         HTMLFrame frame = this;
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent windowEvent) {
-                cefClientActiveCondition.onClose(frame);
+                if (closed.complete(null)) {
+                    windowRegistry.onClose(frame);
+                }
             }
         });
     }
@@ -33,4 +61,59 @@ public class HTMLFrame extends JFrame {
     public void setAddress(String address) {
         browser.loadURL(address);
     }
+
+    public CefBrowser getBrowser() {
+        return browser;
+    }
+
+    /**
+     * @return The {@link PushChannel} with the given name, created on first use.
+     */
+    public PushChannel channel(String name) {
+        return pushChannels.getChannel(name);
+    }
+
+    FramePushChannels getPushChannels() {
+        return pushChannels;
+    }
+
+    FramePerformance getPerformance() {
+        return performance;
+    }
+
+    /**
+     * Collect the performance metrics of the page currently loaded, such as its Javascript heap size,
+     * navigation timings and long tasks.
+     *
+     * @return A stage that completes with the metrics, or with a {@link java.util.concurrent.TimeoutException}
+     *         if the page does not answer.
+     */
+    public CompletionStage<PagePerformanceMetrics> getPerformanceMetrics() {
+        return performance.requestMetrics().minimalCompletionStage();
+    }
+
+    /**
+     * Record the performance entries of the page, such as long tasks, resource loads, paints, and
+     * performance.mark() and performance.measure() calls, for the given duration, and write them to file
+     * as a trace that the Performance panel of Chrome DevTools can open.
+     *
+     * @return A stage that completes with file once it is written.
+     */
+    public CompletionStage<Path> captureTrace(Duration duration, Path file) {
+        return performance.requestTrace(duration.toMillis()).thenApplyAsync(trace -> {
+            try {
+                AtomicFiles.write(file, trace);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to write trace (" + file + ").", e);
+            }
+            return file;
+        }).minimalCompletionStage();
+    }
+
+    /**
+     * @return A stage that completes when this window is closed.
+     */
+    public CompletionStage<Void> whenClosed() {
+        return closed.minimalCompletionStage();
+    }
 }
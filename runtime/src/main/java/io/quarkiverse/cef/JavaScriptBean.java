@@ -0,0 +1,25 @@
+package io.quarkiverse.cef;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exposes the public methods of a bean to Javascript running in an {@link HTMLFrame}.
+ * Each method becomes an async function on window.quarkus[name] that returns a Promise.
+ * Arguments and return values are converted using Jackson. Methods may return a
+ * {@link java.util.concurrent.CompletionStage} or {@link io.smallrye.mutiny.Uni} to complete asynchronously.
+ * <p>
+ * Beans annotated with this annotation are {@link javax.enterprise.context.ApplicationScoped} unless
+ * another scope is given. Overloaded methods are not supported.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JavaScriptBean {
+    /**
+     * The name of the object the methods are exposed on. Defaults to the simple name of the class,
+     * with the first letter in lowercase.
+     */
+    String value() default "";
+}
@@ -0,0 +1,12 @@
+package io.quarkiverse.cef;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class JavaScriptBeanRecorder {
+    public void registerMethod(String beanName, String methodName, Class<?> beanClass, String[] parameterTypes,
+            RuntimeValue<BridgeMethodInvoker> invoker) {
+        JavaScriptBridge.registerMethod(beanName, methodName, beanClass, parameterTypes, invoker.getValue());
+    }
+}
@@ -0,0 +1,292 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.cef.handler.CefMessageRouterHandlerAdapter;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import io.quarkus.arc.Arc;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Dispatches calls from Javascript to {@link JavaScriptBean} methods. Calls made by a page in the same task
+ * arrive as a single batch in one message router query, are dispatched concurrently, and are answered with
+ * a single response once every call in the batch completes.
+ */
+@ApplicationScoped
+public class JavaScriptBridge {
+    static final String BATCH_REQUEST_PREFIX = "B";
+    public static final String BRIDGE_SCRIPT_RESOURCE = "META-INF/quarkus-cef/bridge.js";
+
+    private static final Logger LOG = Logger.getLogger(JavaScriptBridge.class);
+    private static final Map<String, BridgeMethod> NAME_TO_METHOD_MAP = new ConcurrentHashMap<>();
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final Map<String, BridgeMethodMetrics> nameToMetricsMap = new ConcurrentHashMap<>();
+    private volatile ExecutorService executorService;
+    private volatile String script;
+
+    static void registerMethod(String beanName, String methodName, Class<?> beanClass, String[] parameterTypes,
+            BridgeMethodInvoker invoker) {
+        NAME_TO_METHOD_MAP.put(beanName + "." + methodName, new BridgeMethod(beanClass, parameterTypes, invoker));
+    }
+
+    /**
+     * @return The call metrics of every method that has been called, keyed by "bean.method".
+     */
+    public Map<String, BridgeMethodMetrics> getMethodMetrics() {
+        return Collections.unmodifiableMap(nameToMetricsMap);
+    }
+
+    /**
+     * @return The Javascript that defines window.quarkus and the functions of every {@link JavaScriptBean}.
+     */
+    public String getScript() {
+        String out = script;
+        if (out == null) {
+            StringBuilder scriptBuilder = new StringBuilder();
+            try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
+                    .getResourceAsStream(BRIDGE_SCRIPT_RESOURCE)) {
+                if (inputStream == null) {
+                    throw new IllegalStateException("Classpath resource (" + BRIDGE_SCRIPT_RESOURCE + ") does not exist.");
+                }
+                scriptBuilder.append(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read classpath resource (" + BRIDGE_SCRIPT_RESOURCE + ").", e);
+            }
+
+            Map<String, List<String>> beanToMethodsMap = new TreeMap<>();
+            for (String name : NAME_TO_METHOD_MAP.keySet()) {
+                int separatorIndex = name.lastIndexOf('.');
+                beanToMethodsMap.computeIfAbsent(name.substring(0, separatorIndex), bean -> new ArrayList<>())
+                        .add(name.substring(separatorIndex + 1));
+            }
+            try {
+                for (Map.Entry<String, List<String>> beanToMethods : beanToMethodsMap.entrySet()) {
+                    scriptBuilder.append("window.quarkus.__bind(")
+                            .append(objectMapper.writeValueAsString(beanToMethods.getKey()))
+                            .append(", ")
+                            .append(objectMapper.writeValueAsString(beanToMethods.getValue()))
+                            .append(");\n");
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            scriptBuilder.append("window.dispatchEvent(new Event('quarkus-bridge-ready'));\n");
+            out = scriptBuilder.toString();
+            script = out;
+        }
+        return out;
+    }
+
+    /**
+     * @param isAppUrl Tests if the URL of the frame making a call is a page of the application. Calls from
+     *            any other page or frame are rejected.
+     */
+    CefMessageRouterHandlerAdapter createMessageRouterHandler(Predicate<String> isAppUrl) {
+        return new CefMessageRouterHandlerAdapter() {
+            @Override
+            public boolean onQuery(CefBrowser browser, CefFrame frame, long queryId, String request, boolean persistent,
+                    CefQueryCallback callback) {
+                if (!request.startsWith(BATCH_REQUEST_PREFIX)) {
+                    return false;
+                }
+                if (!isAppUrl.test(frame.getURL())) {
+                    LOG.warn("Rejected Javascript bridge request from (" + frame.getURL() + ").");
+                    callback.failure(403, "Javascript beans can only be called by application pages");
+                    return true;
+                }
+                try {
+                    JsonNode calls = objectMapper.readTree(request.substring(BATCH_REQUEST_PREFIX.length()));
+                    if (!calls.isArray()) {
+                        callback.failure(400, "Malformed request: expected an array of calls");
+                        return true;
+                    }
+                    dispatchBatch(calls, callback);
+                } catch (JsonProcessingException e) {
+                    LOG.error("Malformed Javascript bridge request (" + request + ").", e);
+                    callback.failure(400, "Malformed request: " + e.getMessage());
+                }
+                return true;
+            }
+        };
+    }
+
+    private void dispatchBatch(JsonNode calls, CefQueryCallback callback) {
+        int callCount = calls.size();
+        if (callCount == 0) {
+            callback.success("[]");
+            return;
+        }
+        JsonNode[] results = new JsonNode[callCount];
+        AtomicInteger remaining = new AtomicInteger(callCount);
+        ExecutorService executor = getExecutorService();
+        for (int i = 0; i < callCount; i++) {
+            int index = i;
+            JsonNode call = calls.get(i);
+            executor.execute(() -> dispatchCall(call, result -> {
+                results[index] = result;
+                // The decrement publishes results[index] to whichever thread completes the batch
+                if (remaining.decrementAndGet() == 0) {
+                    ArrayNode response = objectMapper.createArrayNode();
+                    for (JsonNode batchResult : results) {
+                        response.add(batchResult);
+                    }
+                    callback.success(response.toString());
+                }
+            }));
+        }
+    }
+
+    private void dispatchCall(JsonNode call, Consumer<JsonNode> resultConsumer) {
+        long start = System.nanoTime();
+        JsonNode id = call.has(0) ? call.get(0) : NullNode.getInstance();
+        String name = null;
+        BridgeMethodMetrics metrics = null;
+        try {
+            if (!call.isArray() || call.size() < 2 || !call.get(1).isTextual()) {
+                throw new IllegalArgumentException("Malformed Javascript bean call (" + call + ").");
+            }
+            name = call.get(1).asText();
+            BridgeMethod method = NAME_TO_METHOD_MAP.get(name);
+            if (method == null) {
+                throw new IllegalArgumentException("No Javascript bean method named (" + name + ").");
+            }
+            // Only existing methods have metrics, so pages cannot add entries with made up names
+            metrics = nameToMetricsMap.computeIfAbsent(name, ignored -> new BridgeMethodMetrics());
+            Object result = method.invoke(objectMapper, call.get(2));
+            if (result instanceof Uni) {
+                result = ((Uni<?>) result).subscribeAsCompletionStage();
+            }
+            if (result instanceof CompletionStage) {
+                String methodName = name;
+                BridgeMethodMetrics methodMetrics = metrics;
+                ((CompletionStage<?>) result).whenComplete((value, error) -> {
+                    methodMetrics.record(System.nanoTime() - start, error != null);
+                    resultConsumer.accept((error != null) ? toFailure(id, methodName, error) : toSuccess(id, value));
+                });
+                return;
+            }
+            metrics.record(System.nanoTime() - start, false);
+            resultConsumer.accept(toSuccess(id, result));
+        } catch (Throwable t) {
+            if (metrics != null) {
+                metrics.record(System.nanoTime() - start, true);
+            }
+            resultConsumer.accept(toFailure(id, name, t));
+        }
+    }
+
+    private JsonNode toSuccess(JsonNode id, Object value) {
+        ArrayNode out = objectMapper.createArrayNode();
+        out.add(id);
+        out.add(0);
+        out.add(objectMapper.valueToTree(value));
+        return out;
+    }
+
+    private JsonNode toFailure(JsonNode id, String name, Throwable error) {
+        LOG.debug("Javascript bean method (" + name + ") failed.", error);
+        ArrayNode out = objectMapper.createArrayNode();
+        out.add(id);
+        out.add(1);
+        out.add(String.valueOf(error.getMessage()));
+        return out;
+    }
+
+    private ExecutorService getExecutorService() {
+        ExecutorService out = executorService;
+        if (out == null) {
+            synchronized (this) {
+                out = executorService;
+                if (out == null) {
+                    AtomicInteger threadIndex = new AtomicInteger();
+                    out = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "quarkus-cef-bridge-" + threadIndex.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    executorService = out;
+                }
+            }
+        }
+        return out;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static final class BridgeMethod {
+        final Class<?> beanClass;
+        final String[] parameterTypes;
+        final BridgeMethodInvoker invoker;
+        volatile JavaType[] parameterJavaTypes;
+        volatile Object bean;
+
+        BridgeMethod(Class<?> beanClass, String[] parameterTypes, BridgeMethodInvoker invoker) {
+            this.beanClass = beanClass;
+            this.parameterTypes = parameterTypes;
+            this.invoker = invoker;
+        }
+
+        Object invoke(ObjectMapper objectMapper, JsonNode arguments) throws Exception {
+            JavaType[] javaTypes = parameterJavaTypes;
+            if (javaTypes == null) {
+                javaTypes = new JavaType[parameterTypes.length];
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    javaTypes[i] = objectMapper.getTypeFactory().constructFromCanonical(parameterTypes[i]);
+                }
+                parameterJavaTypes = javaTypes;
+            }
+            Object instance = bean;
+            if (instance == null) {
+                instance = Arc.container().instance(beanClass).get();
+                bean = instance;
+            }
+
+            Object[] convertedArguments = new Object[javaTypes.length];
+            for (int i = 0; i < javaTypes.length; i++) {
+                // Missing arguments are treated as null, which Jackson converts to 0/false for primitives
+                JsonNode argument = (arguments != null && arguments.has(i)) ? arguments.get(i) : NullNode.getInstance();
+                convertedArguments[i] = objectMapper.convertValue(argument, javaTypes[i]);
+            }
+            return invoker.invoke(instance, convertedArguments);
+        }
+    }
+}
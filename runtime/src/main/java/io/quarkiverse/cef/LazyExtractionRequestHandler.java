@@ -0,0 +1,69 @@
+package io.quarkiverse.cef;
+
+import java.net.URI;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefRequestHandlerAdapter;
+import org.cef.handler.CefResourceRequestHandler;
+import org.cef.handler.CefResourceRequestHandlerAdapter;
+import org.cef.misc.BoolRef;
+import org.cef.network.CefRequest;
+
+/**
+ * Extracts deferred resources the first time the browser requests them, before CEF reads the file.
+ */
+class LazyExtractionRequestHandler extends CefRequestHandlerAdapter {
+    private final Path resourcesDirectory;
+    private final LazyResourceExtractor lazyResourceExtractor;
+    private final CefResourceRequestHandler resourceRequestHandler;
+
+    LazyExtractionRequestHandler(Path resourcesDirectory, LazyResourceExtractor lazyResourceExtractor) {
+        this.resourcesDirectory = resourcesDirectory.toAbsolutePath();
+        this.lazyResourceExtractor = lazyResourceExtractor;
+        this.resourceRequestHandler = new CefResourceRequestHandlerAdapter() {
+            @Override
+            public boolean onBeforeResourceLoad(CefBrowser browser, CefFrame frame, CefRequest request) {
+                String resource = getResource(request.getURL());
+                if (resource != null) {
+                    // Called on the CEF IO thread, which waits until the file is in place
+                    lazyResourceExtractor.ensureExtracted(resource);
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public CefResourceRequestHandler getResourceRequestHandler(CefBrowser browser, CefFrame frame, CefRequest request,
+            boolean isNavigation, boolean isDownload, String requestInitiator, BoolRef disableDefaultHandling) {
+        String resource = getResource(request.getURL());
+        return (resource != null && lazyResourceExtractor.isDeferred(resource)) ? resourceRequestHandler : null;
+    }
+
+    /**
+     * @return The project resource that url points to, or null if url is not a file in the resources directory.
+     */
+    String getResource(String url) {
+        if (url == null || !url.startsWith("file:")) {
+            return null;
+        }
+        Path path;
+        try {
+            path = Paths.get(URI.create(QuarkusCefLoadHandler.withoutQueryOrFragment(url))).toAbsolutePath();
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            return null;
+        }
+        if (!path.startsWith(resourcesDirectory)) {
+            return null;
+        }
+        StringBuilder resource = new StringBuilder();
+        for (Path part : resourcesDirectory.relativize(path)) {
+            resource.append('/').append(part);
+        }
+        return resource.toString();
+    }
+}
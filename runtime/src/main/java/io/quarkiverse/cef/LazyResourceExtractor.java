@@ -0,0 +1,100 @@
+package io.quarkiverse.cef;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Resources whose extraction was deferred until the browser requests them, or until a background
+ * prefetch reaches them, whichever comes first. Every resource is extracted exactly once; a thread that
+ * needs a resource another thread is extracting waits for it.
+ */
+final class LazyResourceExtractor {
+    private static final Logger LOG = Logger.getLogger(LazyResourceExtractor.class);
+
+    private final ToLongFunction<String> extractor;
+    private final Map<String, Deferred> resourceToDeferredMap;
+
+    /**
+     * @param extractor Extracts a resource, returning the number of bytes written
+     */
+    LazyResourceExtractor(ToLongFunction<String> extractor) {
+        this.extractor = extractor;
+        this.resourceToDeferredMap = new ConcurrentHashMap<>();
+    }
+
+    void defer(Collection<String> resources) {
+        for (String resource : resources) {
+            resourceToDeferredMap.put(resource, new Deferred());
+        }
+    }
+
+    boolean isDeferred(String resource) {
+        return resourceToDeferredMap.containsKey(resource);
+    }
+
+    /**
+     * If the extraction of resource was deferred, extract it now, or wait until the thread extracting it
+     * is done.
+     */
+    void ensureExtracted(String resource) {
+        Deferred deferred = resourceToDeferredMap.get(resource);
+        if (deferred == null) {
+            return;
+        }
+        if (deferred.claimed.compareAndSet(false, true)) {
+            try {
+                deferred.extracted.complete(extractor.applyAsLong(resource));
+                resourceToDeferredMap.remove(resource);
+            } catch (RuntimeException e) {
+                deferred.extracted.completeExceptionally(e);
+            }
+        }
+        try {
+            deferred.extracted.join();
+        } catch (CompletionException e) {
+            LOG.error("Unable to extract resource (" + resource + ").", e.getCause());
+        }
+    }
+
+    /**
+     * Extract every deferred resource in the background.
+     *
+     * @return A future of the total number of bytes written, which fails if any resource could not be
+     *         extracted.
+     */
+    CompletableFuture<Long> prefetch(int threadCount) {
+        List<CompletableFuture<Long>> extractions = new ArrayList<>();
+        for (Deferred deferred : resourceToDeferredMap.values()) {
+            extractions.add(deferred.extracted);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "quarkus-cef-prefetch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String resource : new ArrayList<>(resourceToDeferredMap.keySet())) {
+            executorService.execute(() -> ensureExtracted(resource));
+        }
+        executorService.shutdown();
+        return CompletableFuture.allOf(extractions.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> extractions.stream().mapToLong(CompletableFuture::join).sum());
+    }
+
+    private static final class Deferred {
+        final AtomicBoolean claimed = new AtomicBoolean();
+        final CompletableFuture<Long> extracted = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkiverse.cef;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes {@link CefMetrics} to Micrometer. This class has no scope annotation on purpose: it is only
+ * registered as a bean by the deployment processor when quarkus-micrometer is present.
+ */
+public class MicrometerCefMetrics implements CefMetrics {
+    static final String PREFIX = "quarkus.cef.";
+    // Renderer processes are the only CEF sub-processes started with this switch
+    private static final String RENDERER_PROCESS_SWITCH = "--type=renderer";
+    // URLs are unbounded, so every page that is not a project resource shares this tag
+    static final String OTHER_PAGE = "other";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    // The gauges of each page report the last metrics collected from it
+    private final Map<String, AtomicReference<PagePerformanceMetrics>> pageToPagePerformanceMap = new ConcurrentHashMap<>();
+    private volatile Function<String, String> urlToProjectResource = url -> null;
+
+    @Override
+    public void recordPhase(String phase, long nanos) {
+        Timer.builder(PREFIX + "init.phase")
+                .description("Time taken by each phase of CEF initialization")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordExtraction(int changedResources, int extractedFiles, long extractedBytes, int deletedFiles) {
+        Counter.builder(PREFIX + "resources.changed")
+                .description("Resources added, removed or changed since the previous run")
+                .register(meterRegistry)
+                .increment(changedResources);
+        Counter.builder(PREFIX + "resources.extracted")
+                .description("Resource files written to the install directory")
+                .register(meterRegistry)
+                .increment(extractedFiles);
+        Counter.builder(PREFIX + "resources.extracted.bytes")
+                .description("Bytes of resource files written to the install directory")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .increment(extractedBytes);
+        Counter.builder(PREFIX + "resources.deleted")
+                .description("Resource files deleted from the install directory")
+                .register(meterRegistry)
+                .increment(deletedFiles);
+    }
+
+    @Override
+    public void recordBrowserCreation(long nanos) {
+        Timer.builder(PREFIX + "browser.creation")
+                .description("Time taken to create a browser and its window")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPageLoad(String url, int httpStatusCode, long nanos) {
+        Timer.builder(PREFIX + "page.load")
+                .description("Time from the start of a page load until it finished")
+                .tag("page", getPage(url))
+                .tag("status", Integer.toString(httpStatusCode))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPagePerformance(PagePerformanceMetrics metrics) {
+        pageToPagePerformanceMap.computeIfAbsent(getPage(metrics.getUrl()), page -> {
+            AtomicReference<PagePerformanceMetrics> latest = new AtomicReference<>();
+            registerPageGauge("page.js.heap.used", "Bytes of Javascript heap in use", "bytes", page, latest,
+                    PagePerformanceMetrics::getJsHeapUsedBytes);
+            registerPageGauge("page.js.heap.total", "Bytes of Javascript heap allocated", "bytes", page, latest,
+                    PagePerformanceMetrics::getJsHeapTotalBytes);
+            registerPageGauge("page.dom.nodes", "Elements in the document", null, page, latest,
+                    PagePerformanceMetrics::getDomNodeCount);
+            registerPageGauge("page.long.tasks", "Tasks that blocked the renderer for more than 50ms", null, page,
+                    latest, PagePerformanceMetrics::getLongTaskCount);
+            registerPageGauge("page.long.tasks.duration", "Total time of tasks that blocked the renderer",
+                    "milliseconds", page, latest, PagePerformanceMetrics::getLongTaskTotalMillis);
+            return latest;
+        }).set(metrics);
+    }
+
+    private void registerPageGauge(String name, String description, String baseUnit, String page,
+            AtomicReference<PagePerformanceMetrics> latest, ToDoubleFunction<PagePerformanceMetrics> value) {
+        Gauge.builder(PREFIX + name, latest, reference -> {
+            PagePerformanceMetrics metrics = reference.get();
+            double out = (metrics != null) ? value.applyAsDouble(metrics) : -1;
+            // Values the renderer does not report are -1
+            return (out >= 0) ? out : Double.NaN;
+        })
+                .description(description)
+                .baseUnit(baseUnit)
+                .tag("page", page)
+                .register(meterRegistry);
+    }
+
+    private String getPage(String url) {
+        String resource = urlToProjectResource.apply(url);
+        return (resource != null) ? resource : OTHER_PAGE;
+    }
+
+    @Override
+    public void bindWindowRegistry(WindowRegistry windowRegistry) {
+        Gauge.builder(PREFIX + "windows.open", windowRegistry, WindowRegistry::getOpenWindowCount)
+                .description("Open windows")
+                .register(meterRegistry);
+        Gauge.builder(PREFIX + "renderer.processes", MicrometerCefMetrics::countRendererProcesses)
+                .description("Running CEF renderer processes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void bindProjectResources(Function<String, String> urlToProjectResource) {
+        this.urlToProjectResource = urlToProjectResource;
+    }
+
+    static long countRendererProcesses() {
+        return ProcessHandle.current().descendants()
+                .filter(process -> process.info().commandLine()
+                        .map(commandLine -> commandLine.contains(RENDERER_PROCESS_SWITCH))
+                        .orElse(false))
+                .count();
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.cef;
+
+import java.net.URLConnection;
+import java.util.Locale;
+import java.util.Map;
+
+final class MimeTypes {
+    static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+
+    private static final Map<String, String> EXTENSION_TO_MIME_TYPE = Map.ofEntries(
+            Map.entry("html", "text/html"),
+            Map.entry("htm", "text/html"),
+            Map.entry("css", "text/css"),
+            Map.entry("js", "text/javascript"),
+            Map.entry("mjs", "text/javascript"),
+            Map.entry("json", "application/json"),
+            Map.entry("map", "application/json"),
+            Map.entry("wasm", "application/wasm"),
+            Map.entry("txt", "text/plain"),
+            Map.entry("xml", "application/xml"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("ttf", "font/ttf"),
+            Map.entry("otf", "font/otf"),
+            Map.entry("mp3", "audio/mpeg"),
+            Map.entry("ogg", "audio/ogg"),
+            Map.entry("wav", "audio/wav"),
+            Map.entry("mp4", "video/mp4"),
+            Map.entry("webm", "video/webm"),
+            Map.entry("pdf", "application/pdf"));
+
+    private MimeTypes() {
+    }
+
+    static String getMimeType(String path) {
+        int extensionIndex = path.lastIndexOf('.');
+        if (extensionIndex != -1 && extensionIndex > path.lastIndexOf('/')) {
+            String mimeType = EXTENSION_TO_MIME_TYPE.get(path.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+            if (mimeType != null) {
+                return mimeType;
+            }
+        }
+        String guessedMimeType = URLConnection.guessContentTypeFromName(path);
+        return (guessedMimeType != null) ? guessedMimeType : DEFAULT_MIME_TYPE;
+    }
+}
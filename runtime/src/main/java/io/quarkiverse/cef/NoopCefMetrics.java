@@ -0,0 +1,43 @@
+package io.quarkiverse.cef;
+
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * The {@link CefMetrics} used when quarkus-micrometer is not present.
+ */
+@DefaultBean
+@ApplicationScoped
+public class NoopCefMetrics implements CefMetrics {
+
+    @Override
+    public void recordPhase(String phase, long nanos) {
+    }
+
+    @Override
+    public void recordExtraction(int changedResources, int extractedFiles, long extractedBytes, int deletedFiles) {
+    }
+
+    @Override
+    public void recordBrowserCreation(long nanos) {
+    }
+
+    @Override
+    public void recordPageLoad(String url, int httpStatusCode, long nanos) {
+    }
+
+    @Override
+    public void recordPagePerformance(PagePerformanceMetrics metrics) {
+    }
+
+    @Override
+    public void bindWindowRegistry(WindowRegistry windowRegistry) {
+    }
+
+    @Override
+    public void bindProjectResources(Function<String, String> urlToProjectResource) {
+    }
+}
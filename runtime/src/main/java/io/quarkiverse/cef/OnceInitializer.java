@@ -0,0 +1,58 @@
+package io.quarkiverse.cef;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs an initialization at most once, on whichever thread asks for it first. Other threads wait for it
+ * to finish, and fail with its failure if it fails, including with an {@link Error} such as an
+ * {@link UnsatisfiedLinkError} from loading native libraries.
+ */
+class OnceInitializer {
+    private final Runnable initialization;
+    private CompletableFuture<Void> future;
+
+    OnceInitializer(Runnable initialization) {
+        this.initialization = initialization;
+    }
+
+    void ensureInitialized() {
+        CompletableFuture<Void> future;
+        boolean shouldRunInit = false;
+        synchronized (this) {
+            if (this.future == null) {
+                this.future = new CompletableFuture<>();
+                shouldRunInit = true;
+            }
+            future = this.future;
+        }
+        if (shouldRunInit) {
+            try {
+                initialization.run();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+            return;
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return A future that completes when initialization does, or null if it has not been started.
+     */
+    synchronized CompletableFuture<Void> getFuture() {
+        return future;
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkiverse.cef;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.cef.handler.CefMessageRouterHandlerAdapter;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Handles the performance metrics and traces pages report in answer to {@link HTMLFrame#getPerformanceMetrics()}
+ * and {@link HTMLFrame#captureTrace}. Metrics are also recorded in {@link CefMetrics}.
+ */
+@ApplicationScoped
+public class PagePerformanceCollector {
+    static final String PERFORMANCE_REQUEST_PREFIX = "P";
+    // Every event is shown on a single track named after the page
+    private static final int TRACE_PROCESS_ID = 1;
+    private static final int TRACE_THREAD_ID = 1;
+
+    private static final Logger LOG = Logger.getLogger(PagePerformanceCollector.class);
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    CefMetrics cefMetrics;
+
+    CefMessageRouterHandlerAdapter createMessageRouterHandler(WindowRegistry windowRegistry) {
+        return new CefMessageRouterHandlerAdapter() {
+            @Override
+            public boolean onQuery(CefBrowser browser, CefFrame frame, long queryId, String request, boolean persistent,
+                    CefQueryCallback callback) {
+                if (!request.startsWith(PERFORMANCE_REQUEST_PREFIX)) {
+                    return false;
+                }
+                JsonNode report;
+                try {
+                    report = objectMapper.readTree(request.substring(PERFORMANCE_REQUEST_PREFIX.length()));
+                } catch (JsonProcessingException e) {
+                    LOG.error("Malformed performance report (" + request + ").", e);
+                    callback.failure(400, "Malformed performance report: " + e.getMessage());
+                    return true;
+                }
+                for (HTMLFrame htmlFrame : windowRegistry.getOpenFrames()) {
+                    if (htmlFrame.getBrowser() == browser) {
+                        onReport(htmlFrame.getPerformance(),
+                                QuarkusCefLoadHandler.withoutQueryOrFragment(frame.getURL()), report);
+                    }
+                }
+                callback.success("");
+                return true;
+            }
+        };
+    }
+
+    private void onReport(FramePerformance performance, String url, JsonNode report) {
+        long id = report.path("id").asLong();
+        if (report.has("metrics")) {
+            PagePerformanceMetrics metrics = PagePerformanceMetrics.fromJson(url, report.get("metrics"));
+            cefMetrics.recordPagePerformance(metrics);
+            performance.complete(id, metrics);
+        } else if (report.has("trace")) {
+            try {
+                performance.complete(id, objectMapper.writeValueAsBytes(toTraceEvents(url, report.get("trace"))));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Convert performance entries reported by bridge.js to the Trace Event Format, which the Performance
+     * panel of Chrome DevTools and chrome://tracing can open.
+     *
+     * @param trace The time origin of the page and its performance entries
+     */
+    ObjectNode toTraceEvents(String url, JsonNode trace) {
+        double timeOrigin = trace.path("timeOrigin").asDouble();
+        ObjectNode out = objectMapper.createObjectNode();
+        ArrayNode traceEvents = out.putArray("traceEvents");
+        ObjectNode threadName = traceEvents.addObject()
+                .put("name", "thread_name")
+                .put("ph", "M")
+                .put("pid", TRACE_PROCESS_ID)
+                .put("tid", TRACE_THREAD_ID);
+        threadName.putObject("args").put("name", url);
+        for (JsonNode entry : trace.path("entries")) {
+            double duration = entry.path("duration").asDouble();
+            ObjectNode event = traceEvents.addObject()
+                    .put("name", entry.path("name").asText())
+                    .put("cat", entry.path("entryType").asText())
+                    .put("pid", TRACE_PROCESS_ID)
+                    .put("tid", TRACE_THREAD_ID)
+                    .put("ts", toMicros(timeOrigin + entry.path("startTime").asDouble()));
+            if (duration > 0) {
+                event.put("ph", "X").put("dur", toMicros(duration));
+            } else {
+                // Marks and paints have no duration
+                event.put("ph", "i").put("s", "t");
+            }
+        }
+        return out;
+    }
+
+    private static long toMicros(double millis) {
+        return Math.round(millis * 1000);
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkiverse.cef;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Performance metrics of the page loaded in an {@link HTMLFrame}, as measured by its renderer. Times are in
+ * milliseconds since the navigation started; values the renderer does not report, or has not reached yet,
+ * are -1.
+ */
+public class PagePerformanceMetrics {
+    private final String url;
+    private final long jsHeapUsedBytes;
+    private final long jsHeapTotalBytes;
+    private final long jsHeapLimitBytes;
+    private final long domNodeCount;
+    private final double timeToFirstByteMillis;
+    private final double firstContentfulPaintMillis;
+    private final double domContentLoadedMillis;
+    private final double loadMillis;
+    private final long longTaskCount;
+    private final double longTaskTotalMillis;
+    private final double longestTaskMillis;
+
+    PagePerformanceMetrics(String url, long jsHeapUsedBytes, long jsHeapTotalBytes, long jsHeapLimitBytes,
+            long domNodeCount, double timeToFirstByteMillis, double firstContentfulPaintMillis,
+            double domContentLoadedMillis, double loadMillis, long longTaskCount, double longTaskTotalMillis,
+            double longestTaskMillis) {
+        this.url = url;
+        this.jsHeapUsedBytes = jsHeapUsedBytes;
+        this.jsHeapTotalBytes = jsHeapTotalBytes;
+        this.jsHeapLimitBytes = jsHeapLimitBytes;
+        this.domNodeCount = domNodeCount;
+        this.timeToFirstByteMillis = timeToFirstByteMillis;
+        this.firstContentfulPaintMillis = firstContentfulPaintMillis;
+        this.domContentLoadedMillis = domContentLoadedMillis;
+        this.loadMillis = loadMillis;
+        this.longTaskCount = longTaskCount;
+        this.longTaskTotalMillis = longTaskTotalMillis;
+        this.longestTaskMillis = longestTaskMillis;
+    }
+
+    /**
+     * @param url The URL of the page, without its query or fragment
+     * @param metrics The metrics reported by bridge.js
+     */
+    static PagePerformanceMetrics fromJson(String url, JsonNode metrics) {
+        return new PagePerformanceMetrics(url,
+                metrics.path("jsHeapUsed").asLong(-1),
+                metrics.path("jsHeapTotal").asLong(-1),
+                metrics.path("jsHeapLimit").asLong(-1),
+                metrics.path("domNodes").asLong(-1),
+                metrics.path("timeToFirstByte").asDouble(-1),
+                metrics.path("firstContentfulPaint").asDouble(-1),
+                metrics.path("domContentLoaded").asDouble(-1),
+                metrics.path("load").asDouble(-1),
+                metrics.path("longTaskCount").asLong(-1),
+                metrics.path("longTaskTotal").asDouble(-1),
+                metrics.path("longestTask").asDouble(-1));
+    }
+
+    /**
+     * @return The URL of the page, without its query or fragment.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return The bytes of Javascript heap in use. Unless CEF is started with --enable-precise-memory-info,
+     *         heap sizes are rounded by the renderer.
+     */
+    public long getJsHeapUsedBytes() {
+        return jsHeapUsedBytes;
+    }
+
+    public long getJsHeapTotalBytes() {
+        return jsHeapTotalBytes;
+    }
+
+    public long getJsHeapLimitBytes() {
+        return jsHeapLimitBytes;
+    }
+
+    public long getDomNodeCount() {
+        return domNodeCount;
+    }
+
+    public double getTimeToFirstByteMillis() {
+        return timeToFirstByteMillis;
+    }
+
+    public double getFirstContentfulPaintMillis() {
+        return firstContentfulPaintMillis;
+    }
+
+    public double getDomContentLoadedMillis() {
+        return domContentLoadedMillis;
+    }
+
+    public double getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * @return The number of tasks that blocked the renderer's main thread for more than 50 milliseconds
+     *         since the page started loading.
+     */
+    public long getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public double getLongTaskTotalMillis() {
+        return longTaskTotalMillis;
+    }
+
+    public double getLongestTaskMillis() {
+        return longestTaskMillis;
+    }
+}
@@ -1,43 +1,266 @@
 package io.quarkiverse.cef;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+/**
+ * The SHA-512 digest of every project resource, sorted by resource path, along with an aggregate
+ * digest of the whole set of resources.
+ * <p>
+ * Paths and digests are held in a few primitive arrays rather than as a String per path and hash; Strings
+ * are only created for the resources and hashes that are asked for. Paths are sorted by their UTF-8 bytes,
+ * which is code point order.
+ */
 public class ProjectResourceHashes {
-    Map<String, String> projectResourcePathToHashMap;
+    static final int DIGEST_LENGTH = 64;
+    // Enough of the aggregate hash to tell versions apart while keeping paths short
+    static final int VERSION_LENGTH = 16;
 
-    ProjectResourceHashes(Map<String, String> projectResourcePathToHashMap) {
-        this.projectResourcePathToHashMap = projectResourcePathToHashMap;
+    // Path i is paths[pathOffsets[i], pathOffsets[i + 1]), in UTF-8
+    final byte[] paths;
+    final int[] pathOffsets;
+    final byte[] digests;
+    final byte[] aggregateDigest;
+
+    ProjectResourceHashes(Map<String, String> projectResourcePathToHashMap, String aggregateHash) {
+        this(sortByPath(projectResourcePathToHashMap), Digests.fromHex(aggregateHash));
+    }
+
+    private ProjectResourceHashes(TreeMap<byte[], byte[]> pathToDigestMap, byte[] aggregateDigest) {
+        this.pathOffsets = new int[pathToDigestMap.size() + 1];
+        this.digests = new byte[pathToDigestMap.size() * DIGEST_LENGTH];
+        ByteArrayOutputStream pathsOut = new ByteArrayOutputStream();
+        int index = 0;
+        for (Map.Entry<byte[], byte[]> pathToDigest : pathToDigestMap.entrySet()) {
+            pathOffsets[index] = pathsOut.size();
+            pathsOut.writeBytes(pathToDigest.getKey());
+            System.arraycopy(pathToDigest.getValue(), 0, digests, index * DIGEST_LENGTH, DIGEST_LENGTH);
+            index++;
+        }
+        pathOffsets[index] = pathsOut.size();
+        this.paths = pathsOut.toByteArray();
+        this.aggregateDigest = aggregateDigest;
+    }
+
+    private ProjectResourceHashes(byte[] paths, int[] pathOffsets, byte[] digests, byte[] aggregateDigest) {
+        this.paths = paths;
+        this.pathOffsets = pathOffsets;
+        this.digests = digests;
+        this.aggregateDigest = aggregateDigest;
+    }
+
+    /**
+     * @param paths The UTF-8 resource paths, sorted by their bytes and concatenated
+     * @param pathOffsets The offset of every path in paths, followed by the length of paths
+     * @param digests The digests of the resources, concatenated in the same order
+     * @param aggregateDigest The aggregate digest, as computed by {@link #computeAggregateHash(Map)}
+     */
+    static ProjectResourceHashes of(byte[] paths, int[] pathOffsets, byte[] digests, byte[] aggregateDigest) {
+        return new ProjectResourceHashes(paths, pathOffsets, digests, aggregateDigest);
+    }
+
+    private static TreeMap<byte[], byte[]> sortByPath(Map<String, String> projectResourcePathToHashMap) {
+        TreeMap<byte[], byte[]> out = new TreeMap<>(Arrays::compareUnsigned);
+        projectResourcePathToHashMap.forEach(
+                (resource, hash) -> out.put(resource.getBytes(StandardCharsets.UTF_8), Digests.fromHex(hash)));
+        return out;
     }
 
+    /**
+     * Compute a single digest identifying the entire set of resources and their contents.
+     *
+     * @param projectResourcePathToHashMap The SHA-512 hex digest of every resource
+     * @return The SHA-512 hex digest of every (resource path, resource digest) pair, in resource path order
+     */
+    public static String computeAggregateHash(Map<String, String> projectResourcePathToHashMap) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Map.Entry<String, String> resourceToHash : new TreeMap<>(projectResourcePathToHashMap).entrySet()) {
+            messageDigest.update(resourceToHash.getKey().getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            messageDigest.update(Digests.fromHex(resourceToHash.getValue()));
+        }
+        return Digests.toHex(messageDigest.digest());
+    }
+
+    /**
+     * @return A new map of every project resource to its SHA-512 hex digest. The map is not kept, so prefer
+     *         {@link #getHash(String)} for lookups.
+     */
     public Map<String, String> getProjectResourcePathToHashMap() {
-        return projectResourcePathToHashMap;
+        Map<String, String> out = new HashMap<>();
+        for (int i = 0; i < getResourceCount(); i++) {
+            out.put(getResource(i), getHash(i));
+        }
+        return Collections.unmodifiableMap(out);
     }
 
     public Set<String> getProjectResources() {
-        return projectResourcePathToHashMap.keySet();
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object resource) {
+                return (resource instanceof String) && containsResource((String) resource);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return getSortedProjectResources().iterator();
+            }
+
+            @Override
+            public int size() {
+                return getResourceCount();
+            }
+        };
+    }
+
+    /**
+     * @return Every project resource, sorted.
+     */
+    public List<String> getSortedProjectResources() {
+        return new SortedResourceList();
+    }
+
+    public boolean containsResource(String resource) {
+        return indexOf(resource) >= 0;
+    }
+
+    /**
+     * @return The SHA-512 hex digest of resource, or null if it is not a project resource.
+     */
+    public String getHash(String resource) {
+        int index = indexOf(resource);
+        return (index >= 0) ? getHash(index) : null;
+    }
+
+    int getResourceCount() {
+        return pathOffsets.length - 1;
+    }
+
+    private String getResource(int index) {
+        return new String(paths, pathOffsets[index], pathOffsets[index + 1] - pathOffsets[index],
+                StandardCharsets.UTF_8);
+    }
+
+    private String getHash(int index) {
+        return Digests.toHex(digests, index * DIGEST_LENGTH, DIGEST_LENGTH);
+    }
+
+    private int indexOf(String resource) {
+        byte[] path = resource.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = getResourceCount() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Arrays.compareUnsigned(paths, pathOffsets[middle], pathOffsets[middle + 1], path, 0,
+                    path.length);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int comparePaths(int index, ProjectResourceHashes other, int otherIndex) {
+        return Arrays.compareUnsigned(paths, pathOffsets[index], pathOffsets[index + 1],
+                other.paths, other.pathOffsets[otherIndex], other.pathOffsets[otherIndex + 1]);
+    }
+
+    /**
+     * @return The SHA-512 hex digest of the entire set of resources.
+     */
+    public String getAggregateHash() {
+        return Digests.toHex(aggregateDigest);
+    }
+
+    /**
+     * @return A short identifier of this set of resources, usable as a file name.
+     */
+    public String getVersion() {
+        return Digests.toHex(aggregateDigest, 0, VERSION_LENGTH / 2);
     }
 
     public Stream<Map.Entry<String, String>> getResourceToHashStream() {
-        return projectResourcePathToHashMap.entrySet().stream().sorted(Map.Entry.comparingByKey());
+        return IntStream.range(0, getResourceCount()).mapToObj(i -> Map.entry(getResource(i), getHash(i)));
     }
 
+    /**
+     * Returns every resource that was added, removed or changed between old and this.
+     * Both sets of resources are sorted, so this is a single merge pass over both.
+     */
     public Collection<String> getChangedResources(ProjectResourceHashes old) {
-        Map<String, String> oldProjectResourcePathToHashMap = old.getProjectResourcePathToHashMap();
-        Map<String, String> changedProjectResourcePathToHashMap = new HashMap<>(projectResourcePathToHashMap);
-        oldProjectResourcePathToHashMap.forEach((path, hash) -> {
-            if (changedProjectResourcePathToHashMap.containsKey(path)) {
-                if (changedProjectResourcePathToHashMap.get(path).equals(hash)) {
-                    changedProjectResourcePathToHashMap.remove(path);
-                }
+        if (Arrays.equals(aggregateDigest, old.aggregateDigest)) {
+            return List.of();
+        }
+        List<String> changedResources = new ArrayList<>();
+        int resourceCount = getResourceCount();
+        int oldResourceCount = old.getResourceCount();
+        int index = 0;
+        int oldIndex = 0;
+        while (index < resourceCount || oldIndex < oldResourceCount) {
+            int comparison;
+            if (index == resourceCount) {
+                comparison = 1;
+            } else if (oldIndex == oldResourceCount) {
+                comparison = -1;
             } else {
-                changedProjectResourcePathToHashMap.put(path, hash);
+                comparison = comparePaths(index, old, oldIndex);
             }
-        });
-        return changedProjectResourcePathToHashMap.keySet();
+
+            if (comparison < 0) {
+                changedResources.add(getResource(index));
+                index++;
+            } else if (comparison > 0) {
+                changedResources.add(old.getResource(oldIndex));
+                oldIndex++;
+            } else {
+                if (!Arrays.equals(digests, index * DIGEST_LENGTH, (index + 1) * DIGEST_LENGTH,
+                        old.digests, oldIndex * DIGEST_LENGTH, (oldIndex + 1) * DIGEST_LENGTH)) {
+                    changedResources.add(getResource(index));
+                }
+                index++;
+                oldIndex++;
+            }
+        }
+        return changedResources;
     }
 
+    private class SortedResourceList extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, size());
+            return getResource(index);
+        }
+
+        @Override
+        public int size() {
+            return getResourceCount();
+        }
+    }
 }
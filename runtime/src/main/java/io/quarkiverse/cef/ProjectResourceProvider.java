@@ -0,0 +1,195 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.cef.handler.CefResourceHandler;
+import org.cef.network.CefRequest;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Serves project resources for quarkus-app:// URLs, either directly from the classpath (keeping
+ * recently used resources in memory) or from a memory mapped {@link ResourceArchive}.
+ * Only resources recorded in {@link ProjectResourceHashes} are served.
+ */
+@ApplicationScoped
+public class ProjectResourceProvider {
+
+    @Inject
+    CefRuntimeConfig cefRuntimeConfig;
+
+    @Inject
+    ProjectResourceHashes projectResourceHashes;
+
+    @Inject
+    CompressedProjectResources compressedProjectResources;
+
+    @Inject
+    TransformedProjectResources transformedProjectResources;
+
+    @ConfigProperty(name = "quarkus.cef.resource-root")
+    String resourceRoot;
+
+    private static final Logger LOG = Logger.getLogger(ProjectResourceProvider.class);
+
+    private volatile ResourceCache resourceCache;
+    private volatile ResourceArchive resourceArchive;
+    // Resources edited in dev mode, served from their source file until the next restart
+    private final Map<String, Path> devResourceToFileMap = new ConcurrentHashMap<>();
+
+    /**
+     * Serve resources from the given archive instead of the classpath.
+     */
+    void useArchive(ResourceArchive resourceArchive) {
+        this.resourceArchive = resourceArchive;
+    }
+
+    /**
+     * Serve resource from the given source file instead of the classpath or archive. Used in dev mode.
+     */
+    void useDevResource(String resource, Path file) {
+        devResourceToFileMap.put(resource, file);
+    }
+
+    ResourceCache getResourceCache() {
+        ResourceCache out = resourceCache;
+        if (out == null) {
+            synchronized (this) {
+                out = resourceCache;
+                if (out == null) {
+                    out = new ResourceCache(cefRuntimeConfig.resourceCacheSize.asLongValue());
+                    resourceCache = out;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the classpath resource that corresponds to the path of a quarkus-app:// URL.
+     */
+    String getResourceForPath(String path) {
+        return getResourceForPath(resourceRoot, path);
+    }
+
+    static String getResourceForPath(String resourceRoot, String path) {
+        String resourceRootPath = resourceRoot.endsWith("/") ? resourceRoot.substring(0, resourceRoot.length() - 1)
+                : resourceRoot;
+        return path.startsWith("/") ? resourceRootPath + path : resourceRootPath + "/" + path;
+    }
+
+    CefResourceHandler getResourceHandler(CefRequest request) {
+        Map<String, String> requestHeaders = new HashMap<>();
+        request.getHeaderMap(requestHeaders);
+        return getResourceHandler(URI.create(request.getURL()).getPath(), requestHeaders);
+    }
+
+    CefResourceHandler getResourceHandler(String path, Map<String, String> requestHeaders) {
+        String resource = getResourceForPath(path);
+        String hash = projectResourceHashes.getHash(resource);
+        if (hash == null) {
+            LOG.debug("Resource (" + resource + ") is not a project resource.");
+            return BufferResourceHandler.notFound();
+        }
+
+        Path devResourceFile = devResourceToFileMap.get(resource);
+        if (devResourceFile != null) {
+            return getDevResourceHandler(resource, devResourceFile);
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        String etag = '"' + hash + '"';
+        headers.put("ETag", etag);
+        headers.put("Cache-Control", "no-cache");
+
+        if (etag.equals(getHeader(requestHeaders, "If-None-Match"))) {
+            return BufferResourceHandler.notModified(headers);
+        }
+
+        String mimeType = MimeTypes.getMimeType(resource);
+        // Compressed variants are only packed into the archive; the classpath keeps every original
+        if (resourceArchive != null && compressedProjectResources.isCompressed(resource)) {
+            ByteBuffer compressedContents = getContents(CompressedProjectResources.getCompressedResource(resource));
+            headers.put("Vary", "Accept-Encoding");
+            String acceptEncoding = getHeader(requestHeaders, "Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                headers.put("Content-Encoding", "gzip");
+                return BufferResourceHandler.ok(mimeType, headers, compressedContents);
+            }
+            // Chromium does not send Accept-Encoding for custom schemes, so this is the usual case
+            return BufferResourceHandler.ok(mimeType, headers, inflate(resource, compressedContents));
+        }
+        return BufferResourceHandler.ok(mimeType, headers, getContents(resource));
+    }
+
+    private CefResourceHandler getDevResourceHandler(String resource, Path file) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Cache-Control", "no-store");
+        try {
+            return BufferResourceHandler.ok(MimeTypes.getMimeType(resource), headers,
+                    ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read resource (" + resource + ") from (" + file + ").", e);
+        }
+    }
+
+    private ByteBuffer getContents(String resource) {
+        ResourceArchive archive = resourceArchive;
+        if (archive != null) {
+            ByteBuffer contents = archive.get(resource);
+            if (contents == null) {
+                throw new IllegalStateException("Resource archive does not contain (" + resource + ").");
+            }
+            return contents;
+        }
+        ResourceCache cache = getResourceCache();
+        ByteBuffer contents = cache.get(resource);
+        if (contents != null) {
+            return contents;
+        }
+        try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(transformedProjectResources.getClasspathResource(resource))) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Classpath resource (" + resource + ") does not exist.");
+            }
+            contents = ByteBuffer.wrap(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read classpath resource (" + resource + ").", e);
+        }
+        cache.put(resource, contents);
+        return contents.asReadOnlyBuffer();
+    }
+
+    /**
+     * Inflates the compressed variant of a resource for a single response. The result is not cached, so
+     * only the compressed form stays mapped in memory.
+     */
+    private static ByteBuffer inflate(String resource, ByteBuffer compressedContents) {
+        try (InputStream inputStream = new GZIPInputStream(new ByteBufferInputStream(compressedContents))) {
+            return ByteBuffer.wrap(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to decompress resource (" + resource + ").", e);
+        }
+    }
+
+    static String getHeader(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+}
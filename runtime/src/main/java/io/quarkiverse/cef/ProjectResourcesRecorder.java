@@ -1,13 +1,33 @@
 package io.quarkiverse.cef;
 
-import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
+import org.graalvm.nativeimage.ImageInfo;
+
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class ProjectResourcesRecorder {
-    public Supplier<ProjectResourceHashes> projectResourceHashesSupplier(Map<String, String> projectResourcePathToHashMap) {
-        return () -> new ProjectResourceHashes(projectResourcePathToHashMap);
+    public Supplier<ProjectResourceHashes> projectResourceHashesSupplier() {
+        // Read from the manifest generated at build time, instead of recording every resource and hash into
+        // the static init bytecode
+        if (ImageInfo.inImageBuildtimeCode()) {
+            // Static init runs while the native image is built, so the hashes become part of the image heap
+            ProjectResourceHashes projectResourceHashes = RecordedResourceManifest
+                    .load(ProjectResourcesRecorder.class.getClassLoader());
+            return () -> projectResourceHashes;
+        }
+        // In JVM mode static init runs on every start, so the manifest is read when the bean is first used
+        return () -> RecordedResourceManifest.load(Thread.currentThread().getContextClassLoader());
+    }
+
+    public Supplier<CompressedProjectResources> compressedProjectResourcesSupplier(Set<String> compressedProjectResources) {
+        return () -> new CompressedProjectResources(compressedProjectResources);
+    }
+
+    public Supplier<TransformedProjectResources> transformedProjectResourcesSupplier(
+            Set<String> transformedProjectResources) {
+        return () -> new TransformedProjectResources(transformedProjectResources);
     }
 }
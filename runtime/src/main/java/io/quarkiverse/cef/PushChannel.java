@@ -0,0 +1,85 @@
+package io.quarkiverse.cef;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * A named stream of values pushed from Java to the page in an {@link HTMLFrame}.
+ * <p>
+ * Values are not sent individually. Only the latest value published for each key is kept, and every
+ * channel of a frame is delivered to the page in a single batch at most once per
+ * ${quarkus.cef.push-interval}. A new batch is only sent once the page has acknowledged the previous one,
+ * so a page that falls behind receives fewer, fresher batches instead of a growing backlog.
+ * <p>
+ * In the page, subscribe with window.quarkus.channel(name).subscribe((value, key) =&gt; ...).
+ */
+public class PushChannel {
+    static final String DEFAULT_KEY = "";
+
+    private final String name;
+    private final FramePushChannels framePushChannels;
+    private final Map<String, Object> keyToLatestValueMap;
+
+    PushChannel(String name, FramePushChannels framePushChannels) {
+        this.name = name;
+        this.framePushChannels = framePushChannels;
+        this.keyToLatestValueMap = new ConcurrentHashMap<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Publish a value, replacing any value published to this channel that has not been delivered yet.
+     */
+    public void publish(Object value) {
+        publish(DEFAULT_KEY, value);
+    }
+
+    /**
+     * Publish a value for key, replacing any value published for key that has not been delivered yet.
+     * Values are converted to JSON using Jackson.
+     */
+    public void publish(String key, Object value) {
+        keyToLatestValueMap.put(key, value);
+        framePushChannels.scheduleFlush();
+    }
+
+    /**
+     * Publish every item of multi.
+     *
+     * @return A {@link Cancellable} that stops publishing items from multi.
+     */
+    public Cancellable publishAll(Multi<?> multi) {
+        return multi.subscribe().with(this::publish);
+    }
+
+    /**
+     * Publish every item of multi, under the key computed by keyFunction.
+     *
+     * @return A {@link Cancellable} that stops publishing items from multi.
+     */
+    public <T> Cancellable publishAll(Multi<T> multi, Function<? super T, String> keyFunction) {
+        return multi.subscribe().with(item -> publish(keyFunction.apply(item), item));
+    }
+
+    /**
+     * Remove and return every value that has not been delivered yet.
+     */
+    Map<String, Object> drain() {
+        Map<String, Object> out = new HashMap<>();
+        for (Map.Entry<String, Object> keyToLatestValue : keyToLatestValueMap.entrySet()) {
+            // Only remove the value if it was not replaced concurrently, so no update is lost
+            if (keyToLatestValueMap.remove(keyToLatestValue.getKey(), keyToLatestValue.getValue())) {
+                out.put(keyToLatestValue.getKey(), keyToLatestValue.getValue());
+            }
+        }
+        return out;
+    }
+}
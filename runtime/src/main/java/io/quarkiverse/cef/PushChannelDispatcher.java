@@ -0,0 +1,92 @@
+package io.quarkiverse.cef;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.cef.handler.CefMessageRouterHandlerAdapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Schedules delivery of {@link PushChannel} batches and handles their acknowledgements from the page.
+ */
+@ApplicationScoped
+public class PushChannelDispatcher {
+    static final String ACKNOWLEDGEMENT_REQUEST_PREFIX = "A";
+
+    @Inject
+    CefRuntimeConfig cefRuntimeConfig;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private volatile ScheduledExecutorService scheduledExecutorService;
+
+    private ScheduledExecutorService getScheduledExecutorService() {
+        ScheduledExecutorService out = scheduledExecutorService;
+        if (out == null) {
+            synchronized (this) {
+                out = scheduledExecutorService;
+                if (out == null) {
+                    out = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "quarkus-cef-push");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduledExecutorService = out;
+                }
+            }
+        }
+        return out;
+    }
+
+    void schedule(Runnable flush) {
+        getScheduledExecutorService().schedule(flush, cefRuntimeConfig.pushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    String toJson(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    CefMessageRouterHandlerAdapter createMessageRouterHandler(WindowRegistry windowRegistry) {
+        return new CefMessageRouterHandlerAdapter() {
+            @Override
+            public boolean onQuery(CefBrowser browser, CefFrame frame, long queryId, String request, boolean persistent,
+                    CefQueryCallback callback) {
+                if (!request.startsWith(ACKNOWLEDGEMENT_REQUEST_PREFIX)) {
+                    return false;
+                }
+                long sequence;
+                try {
+                    sequence = Long.parseLong(request.substring(ACKNOWLEDGEMENT_REQUEST_PREFIX.length()));
+                } catch (NumberFormatException e) {
+                    callback.failure(400, "Malformed acknowledgement: " + request);
+                    return true;
+                }
+                for (HTMLFrame htmlFrame : windowRegistry.getOpenFrames()) {
+                    if (htmlFrame.getBrowser() == browser) {
+                        htmlFrame.getPushChannels().acknowledge(sequence);
+                    }
+                }
+                callback.success("");
+                return true;
+            }
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.quarkiverse.cef;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefSchemeHandlerFactory;
+import org.cef.handler.CefResourceHandler;
+import org.cef.network.CefRequest;
+
+/**
+ * Handles requests to quarkus-app:// URLs. The host of the URL determines what is served:
+ * quarkus-app://app/ serves project resources, quarkus-app://bridge/bridge.js serves the
+ * {@link JavaScriptBridge} script, quarkus-app://api/ is routed to the application's HTTP routes
+ * by {@link ApiResourceHandler}, and quarkus-app://data/ serves files under the app data directory.
+ */
+class QuarkusAppSchemeHandlerFactory implements CefSchemeHandlerFactory {
+    static final String SCHEME = "quarkus-app";
+    static final String APP_HOST = "app";
+    static final String BRIDGE_HOST = "bridge";
+    static final String API_HOST = "api";
+    static final String DATA_HOST = "data";
+    static final String BRIDGE_SCRIPT_PATH = "/bridge.js";
+    // Pages are loaded from quarkus-app://app, or from file:// URLs (origin null) when resources are extracted
+    private static final String APP_ORIGIN = SCHEME + "://" + APP_HOST;
+    private static final String FILE_ORIGIN = "null";
+
+    private final ProjectResourceProvider projectResourceProvider;
+    private final JavaScriptBridge javaScriptBridge;
+    private final Path appDataDirectory;
+    private final boolean isApiAvailable;
+
+    QuarkusAppSchemeHandlerFactory(ProjectResourceProvider projectResourceProvider, JavaScriptBridge javaScriptBridge,
+            Path appDataDirectory) {
+        this.projectResourceProvider = projectResourceProvider;
+        this.javaScriptBridge = javaScriptBridge;
+        this.appDataDirectory = appDataDirectory;
+        this.isApiAvailable = isApiAvailable();
+    }
+
+    /**
+     * @return true if the application includes the Vert.x HTTP server, so quarkus-app://api/ requests can be
+     *         routed to it. {@link ApiResourceHandler} refers to Netty and Vert.x types, so it must not be
+     *         loaded unless this is true.
+     */
+    static boolean isApiAvailable() {
+        try {
+            Class.forName("io.quarkus.vertx.http.runtime.VertxHttpRecorder", false,
+                    QuarkusAppSchemeHandlerFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if url is a page of the application: served from quarkus-app://app/, or a file under
+     *         appResourcesDirectory. Only these pages may call {@link JavaScriptBean} methods.
+     */
+    static boolean isAppUrl(String url, Path appResourcesDirectory) {
+        URI uri;
+        try {
+            uri = URI.create(QuarkusCefLoadHandler.withoutQueryOrFragment(url));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (SCHEME.equals(uri.getScheme())) {
+            return APP_HOST.equals(uri.getHost());
+        }
+        if (!"file".equals(uri.getScheme())) {
+            return false;
+        }
+        try {
+            return Path.of(uri).toAbsolutePath().normalize()
+                    .startsWith(appResourcesDirectory.toAbsolutePath().normalize());
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            // For instance, a file URL with a remote host
+            return false;
+        }
+    }
+
+    /**
+     * @return The project resource shown at url if it is a page of the application, as defined by
+     *         {@link #isAppUrl}; otherwise null. Whether that resource exists is not checked.
+     */
+    static String getAppResource(String url, Path appResourcesDirectory, String resourceRoot) {
+        if (!isAppUrl(url, appResourcesDirectory)) {
+            return null;
+        }
+        URI uri = URI.create(QuarkusCefLoadHandler.withoutQueryOrFragment(url));
+        if (SCHEME.equals(uri.getScheme())) {
+            return ProjectResourceProvider.getResourceForPath(resourceRoot, uri.getPath());
+        }
+        // Extracted resources are laid out under appResourcesDirectory by their full resource path
+        Path relativePath = appResourcesDirectory.toAbsolutePath().normalize()
+                .relativize(Path.of(uri).toAbsolutePath().normalize());
+        StringBuilder resource = new StringBuilder();
+        for (Path part : relativePath) {
+            resource.append('/').append(part);
+        }
+        return resource.toString();
+    }
+
+    /**
+     * Allow pages of the application to read a response to a cross-origin request, such as a fetch() from
+     * quarkus-app://app/ to quarkus-app://api/. Responses to other origins get no CORS headers.
+     *
+     * @param origin The Origin header of the request, or null
+     */
+    static void addCorsHeaders(String origin, Map<String, String> responseHeaders) {
+        if (APP_ORIGIN.equals(origin) || FILE_ORIGIN.equals(origin)) {
+            responseHeaders.put("Access-Control-Allow-Origin", origin);
+            responseHeaders.put("Vary", "Origin");
+        }
+    }
+
+    static String getUrl(String host, String path) {
+        return SCHEME + "://" + host + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    @Override
+    public CefResourceHandler create(CefBrowser browser, CefFrame frame, String schemeName, CefRequest request) {
+        URI uri = URI.create(request.getURL());
+        String host = uri.getHost();
+        if (APP_HOST.equals(host)) {
+            return projectResourceProvider.getResourceHandler(request);
+        }
+        if (BRIDGE_HOST.equals(host) && BRIDGE_SCRIPT_PATH.equals(uri.getPath())) {
+            return BufferResourceHandler.ok("text/javascript", Map.of("Cache-Control", "no-cache"),
+                    ByteBuffer.wrap(javaScriptBridge.getScript().getBytes(StandardCharsets.UTF_8)));
+        }
+        if (DATA_HOST.equals(host)) {
+            return AppDataResourceHandler.create(appDataDirectory, request);
+        }
+        if (API_HOST.equals(host) && isApiAvailable) {
+            return ApiResourceHandler.create();
+        }
+        return BufferResourceHandler.notFound();
+    }
+}
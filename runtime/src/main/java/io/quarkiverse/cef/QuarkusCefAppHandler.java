@@ -0,0 +1,35 @@
+package io.quarkiverse.cef;
+
+import org.cef.CefApp;
+import org.cef.callback.CefSchemeHandlerFactory;
+import org.cef.callback.CefSchemeRegistrar;
+import org.cef.handler.CefAppHandlerAdapter;
+
+/**
+ * Registers the quarkus-app:// scheme and adds command line switches. Must be added with
+ * {@link CefApp#addAppHandler} before CEF is loaded.
+ */
+class QuarkusCefAppHandler extends CefAppHandlerAdapter {
+    private final CefSchemeHandlerFactory schemeHandlerFactory;
+
+    /**
+     * @param commandLineSwitches Switches, such as "--disk-cache-size=1024", added to the command line of
+     *        every CEF process
+     */
+    QuarkusCefAppHandler(String[] commandLineSwitches, CefSchemeHandlerFactory schemeHandlerFactory) {
+        super(commandLineSwitches);
+        this.schemeHandlerFactory = schemeHandlerFactory;
+    }
+
+    @Override
+    public void onRegisterCustomSchemes(CefSchemeRegistrar registrar) {
+        // standard, secure, CORS and fetch enabled so pages behave as they would over https://
+        registrar.addCustomScheme(QuarkusAppSchemeHandlerFactory.SCHEME, true, false, false, true, true, false, true);
+    }
+
+    @Override
+    public void onContextInitialized() {
+        CefApp.getInstance().registerSchemeHandlerFactory(QuarkusAppSchemeHandlerFactory.SCHEME, "",
+                schemeHandlerFactory);
+    }
+}
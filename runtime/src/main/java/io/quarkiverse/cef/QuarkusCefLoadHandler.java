@@ -0,0 +1,77 @@
+package io.quarkiverse.cef;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandlerAdapter;
+import org.cef.network.CefRequest;
+
+/**
+ * Injects the {@link JavaScriptBridge} script into every application page as it starts loading. Pages that call
+ * {@link JavaScriptBean} methods while loading should include quarkus-app://bridge/bridge.js themselves,
+ * or wait for the "quarkus-bridge-ready" event.
+ * <p>
+ * Also records the load time of every page in {@link CefMetrics}.
+ */
+class QuarkusCefLoadHandler extends CefLoadHandlerAdapter {
+    private final JavaScriptBridge javaScriptBridge;
+    private final CefMetrics cefMetrics;
+    private final Predicate<String> isAppUrl;
+    private final Map<CefBrowser, Long> browserToLoadStartMap;
+
+    /**
+     * @param isAppUrl Tests if a URL is a page of the application; the script is only injected into those
+     */
+    QuarkusCefLoadHandler(JavaScriptBridge javaScriptBridge, CefMetrics cefMetrics, Predicate<String> isAppUrl) {
+        this.javaScriptBridge = javaScriptBridge;
+        this.cefMetrics = cefMetrics;
+        this.isAppUrl = isAppUrl;
+        this.browserToLoadStartMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void onLoadStart(CefBrowser browser, CefFrame frame, CefRequest.TransitionType transitionType) {
+        if (frame.isMain()) {
+            browserToLoadStartMap.put(browser, System.nanoTime());
+            if (isAppUrl.test(frame.getURL())) {
+                frame.executeJavaScript(javaScriptBridge.getScript(), frame.getURL(), 0);
+            }
+        }
+    }
+
+    @Override
+    public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatusCode) {
+        if (frame.isMain()) {
+            Long loadStart = browserToLoadStartMap.remove(browser);
+            if (loadStart != null) {
+                cefMetrics.recordPageLoad(withoutQueryOrFragment(frame.getURL()), httpStatusCode,
+                        System.nanoTime() - loadStart);
+            }
+        }
+    }
+
+    @Override
+    public void onLoadError(CefBrowser browser, CefFrame frame, ErrorCode errorCode, String errorText,
+            String failedUrl) {
+        if (frame.isMain()) {
+            browserToLoadStartMap.remove(browser);
+        }
+    }
+
+    // Keep the number of distinct URLs, and so of meters, bounded
+    static String withoutQueryOrFragment(String url) {
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query != -1) {
+            end = query;
+        }
+        int fragment = url.indexOf('#');
+        if (fragment != -1 && fragment < end) {
+            end = fragment;
+        }
+        return url.substring(0, end);
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkiverse.cef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Reads and writes the manifest of project resources that is generated at build time as a classpath
+ * resource, instead of recording every resource and hash into bytecode.
+ * <p>
+ * The manifest consists of a header (magic, version, the digest length, the aggregate digest, the entry
+ * count and the total length of the paths), followed by every resource path, sorted and front coded: the
+ * length of the prefix it shares with the previous path, and the length and bytes of the rest of it.
+ * The raw digests of the resources follow, in the same order, so the manifest is read into
+ * {@link ProjectResourceHashes} in a single pass.
+ */
+public final class RecordedResourceManifest {
+    public static final String MANIFEST_RESOURCE = "META-INF/quarkus-cef/resources.idx";
+    static final int MAGIC = 0x51434549;
+    static final int VERSION = 1;
+
+    private RecordedResourceManifest() {
+    }
+
+    /**
+     * @param projectResourcePathToHashMap The SHA-512 hex digest of every resource
+     */
+    public static byte[] toBytes(Map<String, String> projectResourcePathToHashMap) {
+        return toBytes(new ProjectResourceHashes(projectResourcePathToHashMap,
+                ProjectResourceHashes.computeAggregateHash(projectResourcePathToHashMap)));
+    }
+
+    static byte[] toBytes(ProjectResourceHashes projectResourceHashes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeByte(ProjectResourceHashes.DIGEST_LENGTH);
+            out.write(projectResourceHashes.aggregateDigest);
+            int resourceCount = projectResourceHashes.getResourceCount();
+            out.writeInt(resourceCount);
+            out.writeInt(projectResourceHashes.paths.length);
+            byte[] paths = projectResourceHashes.paths;
+            int[] pathOffsets = projectResourceHashes.pathOffsets;
+            for (int i = 0; i < resourceCount; i++) {
+                int sharedLength = 0;
+                if (i > 0) {
+                    int mismatch = Arrays.mismatch(paths, pathOffsets[i - 1], pathOffsets[i], paths, pathOffsets[i],
+                            pathOffsets[i + 1]);
+                    sharedLength = (mismatch < 0) ? pathOffsets[i] - pathOffsets[i - 1] : mismatch;
+                }
+                int suffixLength = pathOffsets[i + 1] - pathOffsets[i] - sharedLength;
+                writeVarInt(out, sharedLength);
+                writeVarInt(out, suffixLength);
+                out.write(paths, pathOffsets[i] + sharedLength, suffixLength);
+            }
+            out.write(projectResourceHashes.digests);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read the manifest generated at build time from the classpath.
+     */
+    static ProjectResourceHashes load(ClassLoader classLoader) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(MANIFEST_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Resource manifest (" + MANIFEST_RESOURCE + ") does not exist.");
+            }
+            return fromBytes(ByteBuffer.wrap(inputStream.readAllBytes()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read resource manifest (" + MANIFEST_RESOURCE + ").", e);
+        }
+    }
+
+    static ProjectResourceHashes fromBytes(ByteBuffer manifest) {
+        try {
+            if (manifest.getInt() != MAGIC || manifest.getInt() != VERSION) {
+                throw new IllegalStateException("Resource manifest (" + MANIFEST_RESOURCE + ") has an unknown format.");
+            }
+            int digestLength = manifest.get() & 0xFF;
+            if (digestLength != ProjectResourceHashes.DIGEST_LENGTH) {
+                throw new IllegalStateException("Resource manifest (" + MANIFEST_RESOURCE + ") has digests of "
+                        + digestLength + " bytes, expected " + ProjectResourceHashes.DIGEST_LENGTH + ".");
+            }
+            byte[] aggregateDigest = new byte[digestLength];
+            manifest.get(aggregateDigest);
+            int entryCount = manifest.getInt();
+            byte[] paths = new byte[manifest.getInt()];
+            int[] pathOffsets = new int[entryCount + 1];
+            int pathOffset = 0;
+            int previousPathOffset = 0;
+            for (int i = 0; i < entryCount; i++) {
+                int sharedLength = readVarInt(manifest);
+                int suffixLength = readVarInt(manifest);
+                System.arraycopy(paths, previousPathOffset, paths, pathOffset, sharedLength);
+                manifest.get(paths, pathOffset + sharedLength, suffixLength);
+                pathOffsets[i] = pathOffset;
+                previousPathOffset = pathOffset;
+                pathOffset += sharedLength + suffixLength;
+            }
+            pathOffsets[entryCount] = pathOffset;
+            byte[] digests = new byte[entryCount * digestLength];
+            manifest.get(digests);
+            return ProjectResourceHashes.of(paths, pathOffsets, digests, aggregateDigest);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalStateException("Resource manifest (" + MANIFEST_RESOURCE + ") is truncated.", e);
+        }
+    }
+
+    // Shared and suffix lengths are almost always below 128, so they usually take a single byte
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
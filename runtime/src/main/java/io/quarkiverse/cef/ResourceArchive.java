@@ -0,0 +1,201 @@
+package io.quarkiverse.cef;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * A single file containing every project resource, generated at build time when
+ * quarkus.cef.pack-resources is enabled.
+ * <p>
+ * The archive consists of a header (magic, version, a digest of the index, the entry count and
+ * the offset of the data section), an index sorted by resource path (path, data offset, length, digest),
+ * and finally the contents of every resource. At runtime the archive is memory mapped, and resources
+ * are served as slices of the mapping.
+ */
+public final class ResourceArchive {
+    public static final String ARCHIVE_RESOURCE = "META-INF/quarkus-cef/resources.pack";
+
+    static final int MAGIC = 0x51434546;
+    static final int VERSION = 1;
+    static final int DIGEST_LENGTH = 64;
+    static final int HEADER_LENGTH = 4 + 4 + DIGEST_LENGTH + 4 + 8;
+
+    private final FileChannel channel;
+    private final ByteBuffer mappedData;
+    private final long dataOffset;
+    private final String[] resources;
+    private final long[] offsets;
+    private final long[] lengths;
+
+    private ResourceArchive(FileChannel channel, ByteBuffer mappedData, long dataOffset, String[] resources,
+            long[] offsets, long[] lengths) {
+        this.channel = channel;
+        this.mappedData = mappedData;
+        this.dataOffset = dataOffset;
+        this.resources = resources;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Write an archive containing the given resources to archiveFile, unless archiveFile already contains that
+     * archive. The contents of the resources are streamed from their files; only the index is held in memory.
+     *
+     * @param resourceToFileMap The resources to include, sorted by resource path, mapped to the file containing them.
+     * @param resourceToHashMap The SHA-512 hex digest of every resource.
+     * @return True if archiveFile was written.
+     */
+    public static boolean write(SortedMap<String, Path> resourceToFileMap, Map<String, String> resourceToHashMap,
+            Path archiveFile) throws IOException {
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        long offset = 0;
+        for (Map.Entry<String, Path> resourceToFile : resourceToFileMap.entrySet()) {
+            byte[] path = resourceToFile.getKey().getBytes(StandardCharsets.UTF_8);
+            long length = Files.size(resourceToFile.getValue());
+            index.writeShort(path.length);
+            index.write(path);
+            index.writeLong(offset);
+            index.writeLong(length);
+            index.write(Digests.fromHex(resourceToHashMap.get(resourceToFile.getKey())));
+            offset += length;
+        }
+        index.flush();
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(HEADER_LENGTH);
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.write(sha512(indexBytes.toByteArray()));
+        header.writeInt(resourceToFileMap.size());
+        header.writeLong(HEADER_LENGTH + indexBytes.size());
+        header.flush();
+        if (hasSameHeader(new ByteArrayInputStream(headerBytes.toByteArray()), archiveFile)) {
+            return false;
+        }
+
+        Files.createDirectories(archiveFile.getParent());
+        // Written to a temporary file first, so an interrupted build never leaves a truncated archive behind
+        Path temporaryFile = Files.createTempFile(archiveFile.getParent(), archiveFile.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                headerBytes.writeTo(out);
+                indexBytes.writeTo(out);
+                for (Path file : resourceToFileMap.values()) {
+                    Files.copy(file, out);
+                }
+            }
+            Files.move(temporaryFile, archiveFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the archive at target has the same header as the archive in inputStream.
+     * Since the header contains a digest of the index, equal headers mean equal archives.
+     */
+    static boolean hasSameHeader(InputStream inputStream, Path target) throws IOException {
+        if (!Files.isRegularFile(target) || Files.size(target) < HEADER_LENGTH) {
+            return false;
+        }
+        byte[] expected = new byte[HEADER_LENGTH];
+        new DataInputStream(inputStream).readFully(expected);
+        byte[] actual = new byte[HEADER_LENGTH];
+        try (InputStream targetInputStream = Files.newInputStream(target)) {
+            new DataInputStream(targetInputStream).readFully(actual);
+        }
+        return Arrays.equals(expected, actual);
+    }
+
+    /**
+     * Memory map the archive at the given location.
+     */
+    static ResourceArchive open(Path archiveFile) throws IOException {
+        FileChannel channel = FileChannel.open(archiveFile, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_LENGTH);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalStateException("File (" + archiveFile + ") is not a resource archive.");
+            }
+            header.position(header.position() + DIGEST_LENGTH);
+            int entryCount = header.getInt();
+            long dataOffset = header.getLong();
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LENGTH, dataOffset - HEADER_LENGTH);
+            String[] resources = new String[entryCount];
+            long[] offsets = new long[entryCount];
+            long[] lengths = new long[entryCount];
+            for (int i = 0; i < entryCount; i++) {
+                byte[] path = new byte[index.getShort() & 0xFFFF];
+                index.get(path);
+                resources[i] = new String(path, StandardCharsets.UTF_8);
+                offsets[i] = index.getLong();
+                lengths[i] = index.getLong();
+                index.position(index.position() + DIGEST_LENGTH);
+            }
+
+            long dataLength = channel.size() - dataOffset;
+            if (dataLength <= Integer.MAX_VALUE) {
+                ByteBuffer mappedData = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, dataLength);
+                // A mapping stays valid after its channel is closed
+                channel.close();
+                return new ResourceArchive(null, mappedData, dataOffset, resources, offsets, lengths);
+            }
+            // Too large to map at once; map each resource as it is requested
+            return new ResourceArchive(channel, null, dataOffset, resources, offsets, lengths);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a read only slice of the archive holding the contents of resource, or null if the
+     * archive does not contain resource.
+     */
+    ByteBuffer get(String resource) {
+        int index = Arrays.binarySearch(resources, resource);
+        if (index < 0) {
+            return null;
+        }
+        if (mappedData != null) {
+            ByteBuffer out = mappedData.asReadOnlyBuffer();
+            out.position((int) offsets[index]);
+            out.limit((int) (offsets[index] + lengths[index]));
+            return out.slice();
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + offsets[index], lengths[index]);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to map resource (" + resource + ") from archive.", e);
+        }
+    }
+
+    private static byte[] sha512(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-512").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkiverse.cef;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of resource contents, bounded by the total number of bytes held.
+ */
+class ResourceCache {
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, ByteBuffer> resourceToContentsMap;
+    private long size;
+
+    ResourceCache(long maxSize) {
+        this.maxSize = maxSize;
+        // Do not let a single resource evict most of the cache
+        this.maxEntrySize = maxSize / 8;
+        this.resourceToContentsMap = new LinkedHashMap<>(16, 0.75f, true);
+        this.size = 0;
+    }
+
+    /**
+     * Returns a read only view of the cached contents of resource, or null if it is not cached.
+     */
+    synchronized ByteBuffer get(String resource) {
+        ByteBuffer contents = resourceToContentsMap.get(resource);
+        return (contents != null) ? contents.asReadOnlyBuffer() : null;
+    }
+
+    synchronized void put(String resource, ByteBuffer contents) {
+        int contentsSize = contents.remaining();
+        if (contentsSize > maxEntrySize) {
+            return;
+        }
+        ByteBuffer old = resourceToContentsMap.put(resource, contents);
+        if (old != null) {
+            size -= old.remaining();
+        }
+        size += contentsSize;
+
+        Iterator<Map.Entry<String, ByteBuffer>> iterator = resourceToContentsMap.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().getValue().remaining();
+            iterator.remove();
+        }
+    }
+
+    synchronized void invalidate(String resource) {
+        ByteBuffer old = resourceToContentsMap.remove(resource);
+        if (old != null) {
+            size -= old.remaining();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkiverse.cef;
+
+/**
+ * How HTML, CSS and Javascript resources are delivered to the browser.
+ */
+public enum ResourceDelivery {
+    /**
+     * Copy resources into the install directory and load them using file:// URLs.
+     */
+    EXTRACT,
+
+    /**
+     * Serve resources directly from the classpath using the quarkus-app:// scheme.
+     * Nothing is copied to the install directory.
+     */
+    CLASSPATH,
+
+    /**
+     * Copy the single resource archive generated when quarkus.cef.pack-resources is enabled into the
+     * install directory, memory map it, and serve resources from it using the quarkus-app:// scheme.
+     */
+    ARCHIVE
+}
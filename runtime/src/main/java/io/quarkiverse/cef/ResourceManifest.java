@@ -0,0 +1,108 @@
+package io.quarkiverse.cef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Reads and writes the binary manifest of installed resources.
+ * <p>
+ * The manifest consists of a header (magic, version, the aggregate digest and the entry count)
+ * followed by every resource path and its digest, sorted by resource path. Since the aggregate digest
+ * is in the header, checking if the installed resources are up to date only requires reading the header.
+ */
+final class ResourceManifest {
+    static final int MAGIC = 0x5143454D;
+    // Version 2 paths are sorted by their UTF-8 bytes; older manifests are treated as missing
+    static final int VERSION = 2;
+    static final int HEADER_LENGTH = 4 + 4 + ProjectResourceHashes.DIGEST_LENGTH + 4;
+
+    private ResourceManifest() {
+    }
+
+    static byte[] toBytes(ProjectResourceHashes projectResourceHashes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(projectResourceHashes.aggregateDigest);
+            int resourceCount = projectResourceHashes.getResourceCount();
+            out.writeInt(resourceCount);
+            for (int i = 0; i < resourceCount; i++) {
+                int pathOffset = projectResourceHashes.pathOffsets[i];
+                int pathLength = projectResourceHashes.pathOffsets[i + 1] - pathOffset;
+                out.writeShort(pathLength);
+                out.write(projectResourceHashes.paths, pathOffset, pathLength);
+                out.write(projectResourceHashes.digests, i * ProjectResourceHashes.DIGEST_LENGTH,
+                        ProjectResourceHashes.DIGEST_LENGTH);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static void write(Path manifestPath, ProjectResourceHashes projectResourceHashes) throws IOException {
+        AtomicFiles.write(manifestPath, toBytes(projectResourceHashes));
+    }
+
+    /**
+     * Returns true if the manifest at manifestPath exists and has the given aggregate digest.
+     * Only the header of the manifest is read.
+     */
+    static boolean hasAggregateDigest(Path manifestPath, byte[] aggregateDigest) throws IOException {
+        if (!Files.isRegularFile(manifestPath) || Files.size(manifestPath) < HEADER_LENGTH) {
+            return false;
+        }
+        try (InputStream inputStream = Files.newInputStream(manifestPath)) {
+            DataInputStream in = new DataInputStream(inputStream);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return false;
+            }
+            byte[] installedAggregateDigest = new byte[ProjectResourceHashes.DIGEST_LENGTH];
+            in.readFully(installedAggregateDigest);
+            return Arrays.equals(aggregateDigest, installedAggregateDigest);
+        }
+    }
+
+    /**
+     * Read a manifest. Returns null if the manifest is not in the expected format.
+     */
+    static ProjectResourceHashes read(Path manifestPath) throws IOException {
+        return fromBytes(ByteBuffer.wrap(Files.readAllBytes(manifestPath)));
+    }
+
+    static ProjectResourceHashes fromBytes(ByteBuffer manifest) {
+        try {
+            if (manifest.getInt() != MAGIC || manifest.getInt() != VERSION) {
+                return null;
+            }
+            byte[] aggregateDigest = new byte[ProjectResourceHashes.DIGEST_LENGTH];
+            manifest.get(aggregateDigest);
+            int entryCount = manifest.getInt();
+            // Paths take less room than their length prefix and digest, so the rest of the manifest bounds them
+            byte[] paths = new byte[manifest.remaining() - entryCount * (2 + ProjectResourceHashes.DIGEST_LENGTH)];
+            int[] pathOffsets = new int[entryCount + 1];
+            byte[] digests = new byte[entryCount * ProjectResourceHashes.DIGEST_LENGTH];
+            int pathOffset = 0;
+            for (int i = 0; i < entryCount; i++) {
+                int pathLength = manifest.getShort() & 0xFFFF;
+                manifest.get(paths, pathOffset, pathLength);
+                pathOffsets[i] = pathOffset;
+                pathOffset += pathLength;
+                manifest.get(digests, i * ProjectResourceHashes.DIGEST_LENGTH, ProjectResourceHashes.DIGEST_LENGTH);
+            }
+            pathOffsets[entryCount] = pathOffset;
+            return ProjectResourceHashes.of(Arrays.copyOf(paths, pathOffset), pathOffsets, digests, aggregateDigest);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.quarkiverse.cef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A content-addressed store of extracted resources.
+ * <p>
+ * The contents of every resource are stored once, in a blob named after their hash. Every version of the
+ * resources is a directory tree of hard links to those blobs (or copies, on file systems without hard
+ * links), named after the aggregate hash of the version. A pointer file names the active version.
+ * Installing a version only writes blobs for hashes that are not stored yet, and switching back to a
+ * version that is still present only rewrites the pointer file.
+ * <p>
+ * Several processes may share the store. Installing a version and collecting garbage both hold an
+ * exclusive lock on the store, so garbage collection never sees a version that is still being installed,
+ * or deletes blobs that an install found already stored.
+ */
+final class ResourceStore {
+    private static final Logger LOG = Logger.getLogger(ResourceStore.class);
+
+    static final String BLOBS_DIRECTORY = "resource-blobs";
+    static final String VERSIONS_DIRECTORY = "resource-versions";
+    static final String ACTIVE_VERSION_FILE = "resource-version";
+    static final String LOCK_FILE = "resource-store.lock";
+    // File locks are held per process, so threads of this process also take turns
+    private static final Object LOCK_MONITOR = new Object();
+
+    private final Path blobsDirectory;
+    private final Path versionsDirectory;
+    private final Path activeVersionFile;
+    private final Path lockFile;
+    private final String manifestFileName;
+
+    ResourceStore(Path installPath, String manifestFileName) {
+        this.blobsDirectory = installPath.resolve(BLOBS_DIRECTORY);
+        this.versionsDirectory = installPath.resolve(VERSIONS_DIRECTORY);
+        this.activeVersionFile = installPath.resolve(ACTIVE_VERSION_FILE);
+        this.lockFile = installPath.resolve(LOCK_FILE);
+        this.manifestFileName = manifestFileName;
+    }
+
+    /**
+     * Run action while holding the exclusive lock of the store. Must not be called from within action.
+     */
+    <T> T withLock(LockedAction<T> action) throws IOException {
+        synchronized (LOCK_MONITOR) {
+            Files.createDirectories(lockFile.getParent());
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    FileLock lock = lockChannel.lock()) {
+                return action.run();
+            }
+        }
+    }
+
+    Path getVersionDirectory(String version) {
+        return versionsDirectory.resolve(version);
+    }
+
+    Path getManifestPath(String version) {
+        return getVersionDirectory(version).resolve(manifestFileName);
+    }
+
+    Path getBlobPath(String hash) {
+        return blobsDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * @return True if every resource of version is linked into its directory.
+     */
+    boolean isComplete(String version, byte[] aggregateDigest) throws IOException {
+        return ResourceManifest.hasAggregateDigest(getManifestPath(version), aggregateDigest);
+    }
+
+    /**
+     * Store contents under hash, unless a blob with that hash is already stored.
+     *
+     * @return The number of bytes written; 0 if the blob was already stored.
+     */
+    long storeBlob(String hash, InputStream contents) throws IOException {
+        Path blobPath = getBlobPath(hash);
+        if (Files.isRegularFile(blobPath)) {
+            return 0;
+        }
+        Files.createDirectories(blobPath.getParent());
+        return AtomicFiles.copy(contents, blobPath);
+    }
+
+    /**
+     * Make target a hard link to the blob of hash, or a copy of it if hard links are not supported.
+     */
+    void link(String hash, Path target) throws IOException {
+        Path blobPath = getBlobPath(hash);
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, blobPath);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(blobPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Make version the active version. Must only be called once version is complete.
+     */
+    void activate(String version) throws IOException {
+        // The modification time of the manifest records when a version was last active
+        Files.setLastModifiedTime(getManifestPath(version), FileTime.fromMillis(System.currentTimeMillis()));
+        AtomicFiles.write(activeVersionFile, version.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return The active version, or null if no version was activated yet.
+     */
+    String getActiveVersion() throws IOException {
+        if (!Files.isRegularFile(activeVersionFile)) {
+            return null;
+        }
+        return Files.readString(activeVersionFile, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Delete every version except the active one and the most recently active others, up to retainedVersions
+     * versions in total, then delete every blob that is not referenced by a remaining version.
+     */
+    void collectGarbage(int retainedVersions) {
+        try {
+            withLock(() -> {
+                deleteUnusedVersionsAndBlobs(retainedVersions);
+                return null;
+            });
+        } catch (IOException e) {
+            LOG.debug("Unable to collect unreferenced resources in (" + versionsDirectory + ").", e);
+        }
+    }
+
+    // Only called with the lock held: a version without a manifest is left over from an interrupted install
+    private void deleteUnusedVersionsAndBlobs(int retainedVersions) throws IOException {
+        String activeVersion = getActiveVersion();
+        List<Path> versionDirectories = new ArrayList<>();
+        if (Files.isDirectory(versionsDirectory)) {
+            try (DirectoryStream<Path> versions = Files.newDirectoryStream(versionsDirectory)) {
+                versions.forEach(versionDirectories::add);
+            }
+        }
+        versionDirectories.sort(Comparator.comparing(this::getLastActive).reversed());
+
+        Set<String> referencedHashes = new HashSet<>();
+        int retained = 0;
+        for (Path versionDirectory : versionDirectories) {
+            String version = versionDirectory.getFileName().toString();
+            Path manifestPath = versionDirectory.resolve(manifestFileName);
+            ProjectResourceHashes versionHashes = Files.isRegularFile(manifestPath)
+                    ? ResourceManifest.read(manifestPath)
+                    : null;
+            boolean active = version.equals(activeVersion);
+            if (active || (versionHashes != null && retained < retainedVersions - 1)) {
+                if (!active) {
+                    retained++;
+                }
+                if (versionHashes != null) {
+                    versionHashes.getResourceToHashStream().forEach(entry -> referencedHashes.add(entry.getValue()));
+                }
+            } else {
+                LOG.debug("Deleting resource version (" + versionDirectory + ").");
+                BrowserCache.deleteRecursively(versionDirectory);
+            }
+        }
+
+        if (Files.isDirectory(blobsDirectory)) {
+            try (Stream<Path> blobs = Files.walk(blobsDirectory)) {
+                for (Path blob : (Iterable<Path>) blobs.filter(Files::isRegularFile)::iterator) {
+                    String name = blob.getFileName().toString();
+                    // Names starting with "." are temporary files of a blob being stored
+                    if (!name.startsWith(".") && !referencedHashes.contains(name)) {
+                        Files.deleteIfExists(blob);
+                    }
+                }
+            }
+        }
+    }
+
+    private FileTime getLastActive(Path versionDirectory) {
+        try {
+            return Files.getLastModifiedTime(versionDirectory.resolve(manifestFileName));
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    interface LockedAction<T> {
+        T run() throws IOException;
+    }
+}
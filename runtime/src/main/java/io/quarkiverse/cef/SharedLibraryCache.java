@@ -0,0 +1,251 @@
+package io.quarkiverse.cef;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A CEF installation shared by every application on the machine, with one directory per JCEF version.
+ * <p>
+ * Next to each version directory are:
+ * <ul>
+ * <li>an install lock, held exclusively while the version is installed or deleted, so concurrent first
+ * launches install it exactly once;</li>
+ * <li>a use lock, held shared by every running application using the version, so it is never deleted
+ * while in use;</li>
+ * <li>an installed file, listing the size of every installed file. It is written once the install
+ * completes, checked on every launch, and touched on every launch to record when the version was last
+ * used.</li>
+ * </ul>
+ */
+final class SharedLibraryCache implements Closeable {
+    private static final Logger LOG = Logger.getLogger(SharedLibraryCache.class);
+
+    static final String JCEF_PROPERTIES_RESOURCE = "META-INF/quarkus-cef/jcef.properties";
+    static final String INSTALL_LOCK_SUFFIX = ".install.lock";
+    static final String USE_LOCK_SUFFIX = ".use.lock";
+    static final String INSTALLED_SUFFIX = ".installed";
+
+    // File locks are held per process, so threads of this process also take turns installing
+    private static final Object INSTALL_MONITOR = new Object();
+
+    interface Loader<T> {
+        T load(File installDirectory) throws IOException;
+    }
+
+    private final Path root;
+    private final String version;
+    private FileChannel useLockChannel;
+
+    SharedLibraryCache(Path root, String version) {
+        this.root = root;
+        this.version = version;
+    }
+
+    /**
+     * @return The JCEF version this extension was built against, or null if it is not known.
+     */
+    static String getJcefVersion() {
+        try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(JCEF_PROPERTIES_RESOURCE)) {
+            if (inputStream == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            String version = properties.getProperty("jcef.version");
+            // Not filtered when running from an IDE
+            return (version == null || version.isBlank() || version.contains("${")) ? null : version;
+        } catch (IOException e) {
+            LOG.debug("Unable to read (" + JCEF_PROPERTIES_RESOURCE + ").", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return A file name for version.
+     */
+    static String toDirectoryName(String version) {
+        return version.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    Path getVersionDirectory() {
+        return root.resolve(toDirectoryName(version));
+    }
+
+    private Path getSibling(String suffix) {
+        return root.resolve(toDirectoryName(version) + suffix);
+    }
+
+    /**
+     * Install the version if it is not installed or not intact, then load it. The version stays marked as in
+     * use until this cache is closed.
+     *
+     * @param loader Installs the libraries into the given directory if they are missing, then loads them
+     */
+    <T> T load(Loader<T> loader) throws IOException {
+        Files.createDirectories(root);
+        Path versionDirectory = getVersionDirectory();
+        Path installedFile = getSibling(INSTALLED_SUFFIX);
+        T loaded = null;
+        boolean isLoaded = false;
+        synchronized (INSTALL_MONITOR) {
+            try (FileChannel installLockChannel = openLockChannel(getSibling(INSTALL_LOCK_SUFFIX));
+                    FileLock installLock = installLockChannel.lock()) {
+                if (!isIntact(versionDirectory, installedFile)) {
+                    LOG.debug("Installing CEF (" + version + ") into shared directory (" + versionDirectory + ").");
+                    Files.deleteIfExists(installedFile);
+                    BrowserCache.deleteRecursively(versionDirectory);
+                    Files.createDirectories(versionDirectory);
+                    // Loading is the only way to install, so load while other processes wait for the install
+                    loaded = loader.load(versionDirectory.toFile());
+                    isLoaded = true;
+                    AtomicFiles.write(installedFile, listFiles(versionDirectory).getBytes(StandardCharsets.UTF_8));
+                }
+                Files.setLastModifiedTime(installedFile, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        }
+        acquireUseLock();
+        return isLoaded ? loaded : loader.load(versionDirectory.toFile());
+    }
+
+    private void acquireUseLock() throws IOException {
+        FileChannel channel = FileChannel.open(getSibling(USE_LOCK_SUFFIX), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            channel.lock(0, Long.MAX_VALUE, true);
+        } catch (OverlappingFileLockException e) {
+            // Already in use by this process
+        }
+        useLockChannel = channel;
+    }
+
+    private static FileChannel openLockChannel(Path lockFile) throws IOException {
+        return FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Checks every installed file is still present with its installed size. Contents are not hashed, since
+     * that would mean reading the whole installation on every launch.
+     */
+    static boolean isIntact(Path versionDirectory, Path installedFile) throws IOException {
+        if (!Files.isRegularFile(installedFile) || !Files.isDirectory(versionDirectory)) {
+            return false;
+        }
+        for (String line : Files.readAllLines(installedFile, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                return false;
+            }
+            Path file = versionDirectory.resolve(line.substring(tab + 1));
+            try {
+                if (Files.size(file) != Long.parseLong(line.substring(0, tab))) {
+                    LOG.debug("Shared CEF file (" + file + ") was modified.");
+                    return false;
+                }
+            } catch (NoSuchFileException e) {
+                LOG.debug("Shared CEF file (" + file + ") is missing.");
+                return false;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String listFiles(Path versionDirectory) throws IOException {
+        try (Stream<Path> files = Files.walk(versionDirectory)) {
+            List<Path> regularFiles = files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            StringBuilder out = new StringBuilder();
+            for (Path file : regularFiles) {
+                out.append(Files.size(file)).append('\t');
+                out.append(versionDirectory.relativize(file).toString().replace(File.separatorChar, '/')).append('\n');
+            }
+            return out.toString();
+        }
+    }
+
+    /**
+     * Delete every other version that was last used more than maxUnusedAge ago and is not used by a
+     * running application.
+     */
+    void collectGarbage(Duration maxUnusedAge) {
+        long cutoff = System.currentTimeMillis() - maxUnusedAge.toMillis();
+        List<String> unusedVersions = new ArrayList<>();
+        try (DirectoryStream<Path> installedFiles = Files.newDirectoryStream(root, "*" + INSTALLED_SUFFIX)) {
+            for (Path installedFile : installedFiles) {
+                String name = installedFile.getFileName().toString();
+                String directoryName = name.substring(0, name.length() - INSTALLED_SUFFIX.length());
+                if (!directoryName.equals(toDirectoryName(version))
+                        && Files.getLastModifiedTime(installedFile).toMillis() < cutoff) {
+                    unusedVersions.add(directoryName);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to list shared CEF versions in (" + root + ").", e);
+            return;
+        }
+        for (String unusedVersion : unusedVersions) {
+            deleteIfUnused(unusedVersion);
+        }
+    }
+
+    private void deleteIfUnused(String directoryName) {
+        synchronized (INSTALL_MONITOR) {
+            try (FileChannel installLockChannel = openLockChannel(root.resolve(directoryName + INSTALL_LOCK_SUFFIX));
+                    FileChannel useLockChannel = openLockChannel(root.resolve(directoryName + USE_LOCK_SUFFIX));
+                    FileLock installLock = installLockChannel.tryLock()) {
+                if (installLock == null) {
+                    return;
+                }
+                FileLock useLock;
+                try {
+                    useLock = useLockChannel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    useLock = null;
+                }
+                if (useLock == null) {
+                    LOG.debug("Shared CEF (" + directoryName + ") is still in use.");
+                    return;
+                }
+                try {
+                    LOG.debug("Deleting unused shared CEF (" + directoryName + ").");
+                    // Without the installed file, the version is reinstalled if it is ever used again
+                    Files.deleteIfExists(root.resolve(directoryName + INSTALLED_SUFFIX));
+                    BrowserCache.deleteRecursively(root.resolve(directoryName));
+                } finally {
+                    useLock.release();
+                }
+            } catch (IOException | OverlappingFileLockException e) {
+                LOG.debug("Unable to delete unused shared CEF (" + directoryName + ").", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (useLockChannel != null) {
+            useLockChannel.close();
+            useLockChannel = null;
+        }
+    }
+}
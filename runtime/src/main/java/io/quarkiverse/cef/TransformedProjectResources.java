@@ -0,0 +1,36 @@
+package io.quarkiverse.cef;
+
+import java.util.Set;
+
+/**
+ * The project resources whose contents were changed by a resource transformer at build time, such as
+ * minified style sheets. Their transformed contents are generated under a separate root, since the original
+ * resources remain on the classpath.
+ */
+public class TransformedProjectResources {
+    public static final String TRANSFORMED_RESOURCE_ROOT = "META-INF/quarkus-cef/transformed";
+
+    final Set<String> transformedProjectResources;
+
+    TransformedProjectResources(Set<String> transformedProjectResources) {
+        this.transformedProjectResources = transformedProjectResources;
+    }
+
+    /**
+     * Returns the name of the resource containing the transformed contents of resource.
+     */
+    public static String getTransformedResource(String resource) {
+        return TRANSFORMED_RESOURCE_ROOT + (resource.startsWith("/") ? resource : "/" + resource);
+    }
+
+    public boolean isTransformed(String resource) {
+        return transformedProjectResources.contains(resource);
+    }
+
+    /**
+     * @return The classpath resource holding the contents of resource as delivered to the browser.
+     */
+    public String getClasspathResource(String resource) {
+        return isTransformed(resource) ? getTransformedResource(resource) : resource;
+    }
+}
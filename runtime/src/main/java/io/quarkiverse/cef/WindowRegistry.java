@@ -0,0 +1,81 @@
+package io.quarkiverse.cef;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks open {@link HTMLFrame}s without locking. Windows may be opened and closed from any thread.
+ */
+public class WindowRegistry {
+    private final AtomicReference<State> state;
+    // Windows are opened rarely and iterated more often, so copy on write
+    private final List<HTMLFrame> openFrames;
+
+    public WindowRegistry() {
+        state = new AtomicReference<>(new State(0, CompletableFuture.completedFuture(null)));
+        openFrames = new CopyOnWriteArrayList<>();
+    }
+
+    public void onCreate(HTMLFrame frame) {
+        openFrames.add(frame);
+        State current;
+        State next;
+        do {
+            current = state.get();
+            // A new batch of windows starts; give it a fresh future
+            CompletableFuture<Void> allClosed = (current.openWindowCount == 0) ? new CompletableFuture<>()
+                    : current.allClosed;
+            next = new State(current.openWindowCount + 1, allClosed);
+        } while (!state.compareAndSet(current, next));
+    }
+
+    public void onClose(HTMLFrame frame) {
+        openFrames.remove(frame);
+        State current;
+        State next;
+        do {
+            current = state.get();
+            if (current.openWindowCount == 0) {
+                return;
+            }
+            next = new State(current.openWindowCount - 1, current.allClosed);
+        } while (!state.compareAndSet(current, next));
+        if (next.openWindowCount == 0) {
+            next.allClosed.complete(null);
+        }
+    }
+
+    /**
+     * @return A snapshot of the currently open windows.
+     */
+    public Collection<HTMLFrame> getOpenFrames() {
+        return Collections.unmodifiableList(openFrames);
+    }
+
+    public int getOpenWindowCount() {
+        return state.get().openWindowCount;
+    }
+
+    /**
+     * @return A stage that completes when every currently open window is closed. Already completed if
+     *         no windows are open.
+     */
+    public CompletionStage<Void> whenAllClosed() {
+        return state.get().allClosed.minimalCompletionStage();
+    }
+
+    private static final class State {
+        final int openWindowCount;
+        final CompletableFuture<Void> allClosed;
+
+        State(int openWindowCount, CompletableFuture<Void> allClosed) {
+            this.openWindowCount = openWindowCount;
+            this.allClosed = allClosed;
+        }
+    }
+}
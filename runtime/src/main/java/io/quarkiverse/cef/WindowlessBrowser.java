@@ -0,0 +1,55 @@
+package io.quarkiverse.cef;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.cef.CefClient;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefBrowserWindowless;
+
+/**
+ * A browser rendered off-screen, without any Swing component. Rendered frames are passed to the
+ * consumers registered with {@link #onFrame(Consumer)}, at most ${quarkus.cef.windowless-frame-rate}
+ * times per second.
+ * <p>
+ * Requires quarkus.cef.windowless=true.
+ */
+public class WindowlessBrowser {
+    private final CefBrowserWindowless browser;
+    private final WindowlessRenderHandler renderHandler;
+
+    WindowlessBrowser(String url, CefClient client, int width, int height, int maxFrameRate,
+            ScheduledExecutorService scheduledExecutorService) {
+        renderHandler = new WindowlessRenderHandler(width, height, maxFrameRate, scheduledExecutorService);
+        browser = new CefBrowserWindowless(client, url, false, renderHandler);
+        browser.createImmediately();
+    }
+
+    public CefBrowser getBrowser() {
+        return browser;
+    }
+
+    /**
+     * Pass every rendered frame to frameConsumer. Consumers are called on a CEF or scheduler thread, and
+     * must not keep the frame after returning.
+     *
+     * @return A runnable that unregisters frameConsumer.
+     */
+    public Runnable onFrame(Consumer<WindowlessFrame> frameConsumer) {
+        renderHandler.addFrameConsumer(frameConsumer);
+        return () -> renderHandler.removeFrameConsumer(frameConsumer);
+    }
+
+    public void setSize(int width, int height) {
+        renderHandler.setSize(width, height);
+        browser.resized(width, height);
+    }
+
+    public void setAddress(String address) {
+        browser.loadURL(address);
+    }
+
+    public void close() {
+        browser.close(true);
+    }
+}
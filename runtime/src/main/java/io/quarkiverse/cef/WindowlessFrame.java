@@ -0,0 +1,47 @@
+package io.quarkiverse.cef;
+
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+
+/**
+ * A rendered frame of a {@link WindowlessBrowser}.
+ * <p>
+ * The pixels are 32-bit BGRA, top to bottom, with a stride of width * 4 bytes. The buffer is reused for
+ * every frame, so it is only valid until the consumer it was passed to returns; copy what is needed
+ * to keep it longer.
+ */
+public final class WindowlessFrame {
+    private final ByteBuffer pixels;
+    private final int width;
+    private final int height;
+    private final Rectangle dirtyRegion;
+
+    WindowlessFrame(ByteBuffer pixels, int width, int height, Rectangle dirtyRegion) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        this.dirtyRegion = dirtyRegion;
+    }
+
+    /**
+     * @return A read-only view of the pixels of the whole frame.
+     */
+    public ByteBuffer getPixels() {
+        return pixels;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return The region of the frame that changed since the previous frame passed to consumers.
+     */
+    public Rectangle getDirtyRegion() {
+        return new Rectangle(dirtyRegion);
+    }
+}
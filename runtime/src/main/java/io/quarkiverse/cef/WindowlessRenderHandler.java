@@ -0,0 +1,141 @@
+package io.quarkiverse.cef;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.cef.browser.CefBrowser;
+import org.cef.handler.CefRenderHandlerAdapter;
+import org.jboss.logging.Logger;
+
+/**
+ * Receives paints of a {@link WindowlessBrowser}, and passes them to frame consumers at most once per
+ * frame interval.
+ * <p>
+ * CEF only guarantees the painted buffer for the duration of onPaint, so only the dirty rectangles are
+ * copied into a single, reused direct buffer. Paints arriving faster than the frame rate still update the
+ * buffer; their dirty rectangles are merged and passed to consumers with the next frame.
+ */
+class WindowlessRenderHandler extends CefRenderHandlerAdapter {
+    private static final Logger LOG = Logger.getLogger(WindowlessRenderHandler.class);
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long frameIntervalNanos;
+    private final List<Consumer<WindowlessFrame>> frameConsumers;
+
+    private Rectangle viewRect;
+    private ByteBuffer pixels;
+    private int width;
+    private int height;
+    private Rectangle dirtyRegion;
+    private long lastFrameNanos;
+    private boolean frameScheduled;
+
+    WindowlessRenderHandler(int width, int height, int maxFrameRate, ScheduledExecutorService scheduledExecutorService) {
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.frameIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxFrameRate);
+        this.frameConsumers = new CopyOnWriteArrayList<>();
+        this.viewRect = new Rectangle(0, 0, width, height);
+        this.lastFrameNanos = System.nanoTime() - frameIntervalNanos;
+    }
+
+    void addFrameConsumer(Consumer<WindowlessFrame> frameConsumer) {
+        frameConsumers.add(frameConsumer);
+    }
+
+    void removeFrameConsumer(Consumer<WindowlessFrame> frameConsumer) {
+        frameConsumers.remove(frameConsumer);
+    }
+
+    synchronized void setSize(int width, int height) {
+        viewRect = new Rectangle(0, 0, width, height);
+    }
+
+    @Override
+    public synchronized Rectangle getViewRect(CefBrowser browser) {
+        return viewRect;
+    }
+
+    @Override
+    public Point getScreenPoint(CefBrowser browser, Point viewPoint) {
+        return new Point(viewPoint);
+    }
+
+    @Override
+    public synchronized void onPaint(CefBrowser browser, boolean popup, Rectangle[] dirtyRects, ByteBuffer buffer,
+            int width, int height) {
+        if (popup) {
+            // Popups (such as <select> drop downs) are not composited into the frame
+            return;
+        }
+        if (pixels == null || this.width != width || this.height != height) {
+            pixels = ByteBuffer.allocateDirect(width * height * BYTES_PER_PIXEL);
+            this.width = width;
+            this.height = height;
+            dirtyRects = new Rectangle[] { new Rectangle(0, 0, width, height) };
+            dirtyRegion = null;
+        }
+
+        int stride = width * BYTES_PER_PIXEL;
+        for (Rectangle dirtyRect : dirtyRects) {
+            Rectangle clipped = dirtyRect.intersection(new Rectangle(0, 0, width, height));
+            if (clipped.isEmpty()) {
+                continue;
+            }
+            int rowLength = clipped.width * BYTES_PER_PIXEL;
+            if (clipped.x == 0 && clipped.width == width) {
+                // Whole rows are contiguous, so copy them at once
+                copy(buffer, pixels, clipped.y * stride, clipped.height * stride);
+            } else {
+                for (int y = clipped.y; y < clipped.y + clipped.height; y++) {
+                    copy(buffer, pixels, y * stride + clipped.x * BYTES_PER_PIXEL, rowLength);
+                }
+            }
+            dirtyRegion = (dirtyRegion == null) ? clipped : dirtyRegion.union(clipped);
+        }
+
+        long sinceLastFrame = System.nanoTime() - lastFrameNanos;
+        if (sinceLastFrame >= frameIntervalNanos) {
+            deliverFrame();
+        } else if (!frameScheduled) {
+            frameScheduled = true;
+            scheduledExecutorService.schedule(this::deliverScheduledFrame, frameIntervalNanos - sinceLastFrame,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void deliverScheduledFrame() {
+        frameScheduled = false;
+        deliverFrame();
+    }
+
+    private void deliverFrame() {
+        if (dirtyRegion == null) {
+            return;
+        }
+        lastFrameNanos = System.nanoTime();
+        WindowlessFrame frame = new WindowlessFrame(pixels.asReadOnlyBuffer(), width, height, dirtyRegion);
+        dirtyRegion = null;
+        for (Consumer<WindowlessFrame> frameConsumer : frameConsumers) {
+            try {
+                frameConsumer.accept(frame);
+            } catch (RuntimeException e) {
+                LOG.error("Windowless frame consumer failed.", e);
+            }
+        }
+    }
+
+    private static void copy(ByteBuffer source, ByteBuffer target, int offset, int length) {
+        ByteBuffer from = source.duplicate();
+        from.limit(offset + length).position(offset);
+        ByteBuffer to = target.duplicate();
+        to.position(offset);
+        to.put(from);
+    }
+}
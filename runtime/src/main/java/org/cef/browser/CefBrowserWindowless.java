@@ -0,0 +1,54 @@
+package org.cef.browser;
+
+import java.awt.Component;
+import java.awt.Point;
+
+import org.cef.CefClient;
+import org.cef.handler.CefRenderHandler;
+
+/**
+ * An off-screen browser that hands every paint to a caller supplied {@link CefRenderHandler}, instead
+ * of drawing into an OpenGL canvas like the browsers created by CefClient.createBrowser(url, true, ...).
+ * <p>
+ * It lives in the org.cef.browser package because {@link CefBrowser_N} is package-private.
+ */
+public class CefBrowserWindowless extends CefBrowser_N {
+    private final boolean transparent;
+    private final CefRenderHandler renderHandler;
+
+    public CefBrowserWindowless(CefClient client, String url, boolean transparent, CefRenderHandler renderHandler) {
+        super(client, url, null, null, null);
+        this.transparent = transparent;
+        this.renderHandler = renderHandler;
+    }
+
+    @Override
+    public void createImmediately() {
+        if (getNativeRef("CefBrowser") == 0) {
+            createBrowser(getClient(), 0, getUrl(), true, transparent, null, getRequestContext());
+        }
+    }
+
+    @Override
+    public Component getUIComponent() {
+        return null;
+    }
+
+    @Override
+    public CefRenderHandler getRenderHandler() {
+        return renderHandler;
+    }
+
+    @Override
+    protected CefBrowser_N createDevToolsBrowser(CefClient client, String url, CefRequestContext context,
+            CefBrowser_N parent, Point inspectAt) {
+        throw new UnsupportedOperationException("DevTools are not supported for windowless browsers.");
+    }
+
+    /**
+     * Notify the browser that the view rectangle returned by the render handler changed.
+     */
+    public void resized(int width, int height) {
+        wasResized(width, height);
+    }
+}
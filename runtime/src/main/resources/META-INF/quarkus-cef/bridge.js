@@ -0,0 +1,175 @@
+// Batches calls to @JavaScriptBean methods made in the same task into a single cefQuery.
+// Requests are "B" followed by [[id, "bean.method", [args...]], ...]; responses are
+// [[id, 0, result] or [id, 1, errorMessage], ...].
+// Push channel batches arrive through quarkus.__push({channel: {key: value}}, sequence), and are
+// acknowledged with "A" followed by the sequence once every subscriber has run.
+// Performance requests arrive through quarkus.__performance(id) and quarkus.__trace(id, millis), and are
+// answered with "P" followed by {id, metrics} or {id, trace}.
+(function () {
+    var quarkus = window.quarkus = window.quarkus || {};
+    if (quarkus.__call) {
+        return;
+    }
+    var nextId = 1;
+    var queue = [];
+    var pending = {};
+
+    function settle(id, failed, value) {
+        var promise = pending[id];
+        delete pending[id];
+        if (failed) {
+            promise.reject(new Error(value));
+        } else {
+            promise.resolve(value);
+        }
+    }
+
+    function flush() {
+        var batch = queue;
+        queue = [];
+        window.cefQuery({
+            request: 'B' + JSON.stringify(batch),
+            persistent: false,
+            onSuccess: function (response) {
+                JSON.parse(response).forEach(function (result) {
+                    settle(result[0], result[1] !== 0, result[2]);
+                });
+            },
+            onFailure: function (errorCode, errorMessage) {
+                batch.forEach(function (call) {
+                    settle(call[0], true, errorMessage);
+                });
+            }
+        });
+    }
+
+    quarkus.__call = function (method, args) {
+        return new Promise(function (resolve, reject) {
+            var id = nextId++;
+            pending[id] = { resolve: resolve, reject: reject };
+            if (queue.push([id, method, Array.prototype.slice.call(args)]) === 1) {
+                Promise.resolve().then(flush);
+            }
+        });
+    };
+
+    quarkus.__bind = function (bean, methods) {
+        var target = quarkus[bean] = quarkus[bean] || {};
+        methods.forEach(function (method) {
+            target[method] = function () {
+                return quarkus.__call(bean + '.' + method, arguments);
+            };
+        });
+    };
+
+    var channels = {};
+
+    quarkus.channel = function (name) {
+        var channel = channels[name];
+        if (!channel) {
+            var subscribers = [];
+            channel = channels[name] = {
+                subscribe: function (subscriber) {
+                    subscribers.push(subscriber);
+                    return function () {
+                        var index = subscribers.indexOf(subscriber);
+                        if (index !== -1) {
+                            subscribers.splice(index, 1);
+                        }
+                    };
+                },
+                __dispatch: function (value, key) {
+                    subscribers.forEach(function (subscriber) {
+                        try {
+                            subscriber(value, key);
+                        } catch (e) {
+                            console.error(e);
+                        }
+                    });
+                }
+            };
+        }
+        return channel;
+    };
+
+    quarkus.__push = function (batch, sequence) {
+        Object.keys(batch).forEach(function (name) {
+            var channel = quarkus.channel(name);
+            var values = batch[name];
+            Object.keys(values).forEach(function (key) {
+                channel.__dispatch(values[key], key);
+            });
+        });
+        // Acknowledge after the next paint, so batches are never sent faster than the page renders them
+        window.requestAnimationFrame(function () {
+            window.cefQuery({ request: 'A' + sequence, persistent: false });
+        });
+    };
+
+    var longTasks = { count: 0, total: 0, longest: 0 };
+    try {
+        new PerformanceObserver(function (list) {
+            list.getEntries().forEach(function (entry) {
+                longTasks.count++;
+                longTasks.total += entry.duration;
+                longTasks.longest = Math.max(longTasks.longest, entry.duration);
+            });
+        }).observe({ entryTypes: ['longtask'] });
+    } catch (e) {
+        // Long tasks are not observable; their counts stay 0
+    }
+
+    function report(message) {
+        window.cefQuery({ request: 'P' + JSON.stringify(message), persistent: false });
+    }
+
+    // Timings are 0 until the navigation reaches them
+    function timing(value) {
+        return value > 0 ? value : -1;
+    }
+
+    quarkus.__performance = function (id) {
+        var navigation = performance.getEntriesByType('navigation')[0] || {};
+        var paint = performance.getEntriesByName('first-contentful-paint')[0] || {};
+        var memory = performance.memory || {};
+        report({
+            id: id,
+            metrics: {
+                jsHeapUsed: memory.usedJSHeapSize,
+                jsHeapTotal: memory.totalJSHeapSize,
+                jsHeapLimit: memory.jsHeapSizeLimit,
+                domNodes: document.getElementsByTagName('*').length,
+                timeToFirstByte: timing(navigation.responseStart),
+                firstContentfulPaint: timing(paint.startTime),
+                domContentLoaded: timing(navigation.domContentLoadedEventEnd),
+                load: timing(navigation.loadEventEnd),
+                longTaskCount: longTasks.count,
+                longTaskTotal: longTasks.total,
+                longestTask: longTasks.longest
+            }
+        });
+    };
+
+    quarkus.__trace = function (id, millis) {
+        var entries = [];
+        function record(list) {
+            list.forEach(function (entry) {
+                entries.push({
+                    name: entry.name,
+                    entryType: entry.entryType,
+                    startTime: entry.startTime,
+                    duration: entry.duration
+                });
+            });
+        }
+        var observer = new PerformanceObserver(function (list) {
+            record(list.getEntries());
+        });
+        observer.observe({ entryTypes: ['longtask', 'mark', 'measure', 'resource', 'paint', 'navigation'] });
+        setTimeout(function () {
+            record(observer.takeRecords());
+            observer.disconnect();
+            report({ id: id, trace: { timeOrigin: performance.timeOrigin, entries: entries } });
+        }, millis);
+    };
+})();
@@ -0,0 +1,67 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AppDataResourceHandlerTest {
+
+    private static void assertRange(String header, long size, long start, long end) {
+        AppDataResourceHandler.ByteRange range = AppDataResourceHandler.ByteRange.parse(header, size);
+        assertThat(range).isNotNull();
+        assertThat(range.start).isEqualTo(start);
+        assertThat(range.end).isEqualTo(end);
+    }
+
+    @Test
+    public void testRangeParsing() {
+        assertRange("bytes=0-99", 1000, 0, 100);
+        assertRange("bytes=500-", 1000, 500, 1000);
+        assertRange("bytes=-100", 1000, 900, 1000);
+        assertRange("bytes=900-5000", 1000, 900, 1000);
+        assertRange("bytes=-5000", 1000, 0, 1000);
+
+        assertThat(AppDataResourceHandler.ByteRange.parse("bytes=1000-", 1000).isSatisfiable()).isFalse();
+        assertThat(AppDataResourceHandler.ByteRange.parse("bytes=0-99,200-299", 1000)).isNull();
+        assertThat(AppDataResourceHandler.ByteRange.parse("bytes=99-0", 1000)).isNull();
+        assertThat(AppDataResourceHandler.ByteRange.parse("items=0-99", 1000)).isNull();
+        assertThat(AppDataResourceHandler.ByteRange.parse("bytes=a-b", 1000)).isNull();
+    }
+
+    @Test
+    public void testPathsOutsideTheAppDataDirectoryAreRejected() {
+        Path appDataDirectory = Path.of("app-data").toAbsolutePath();
+        assertThat(AppDataResourceHandler.resolve(appDataDirectory, "/videos/intro.mp4"))
+                .isEqualTo(appDataDirectory.resolve("videos").resolve("intro.mp4"));
+        assertThat(AppDataResourceHandler.resolve(appDataDirectory, "/../secrets.txt")).isNull();
+        assertThat(AppDataResourceHandler.resolve(appDataDirectory, "/videos/../../secrets.txt")).isNull();
+        assertThat(AppDataResourceHandler.resolve(appDataDirectory, "/")).isNull();
+    }
+
+    @Test
+    public void testCorsHeadersAreOnlySentToAppOrigins(@TempDir Path appDataDirectory) throws Exception {
+        Files.writeString(appDataDirectory.resolve("intro.mp4"), "video");
+
+        AppDataResourceHandler fromApp = (AppDataResourceHandler) AppDataResourceHandler.create(appDataDirectory,
+                "/intro.mp4", Map.of("Origin", "quarkus-app://app"));
+        fromApp.cancel();
+        assertThat(fromApp.getHeaders()).containsEntry("Access-Control-Allow-Origin", "quarkus-app://app")
+                .containsEntry("Vary", "Origin");
+
+        AppDataResourceHandler fromFile = (AppDataResourceHandler) AppDataResourceHandler.create(appDataDirectory,
+                "/intro.mp4", Map.of("origin", "null", "Range", "bytes=0-1"));
+        fromFile.cancel();
+        assertThat(fromFile.getHeaders()).containsEntry("Access-Control-Allow-Origin", "null")
+                .containsEntry("Content-Range", "bytes 0-1/5");
+
+        AppDataResourceHandler fromOtherSite = (AppDataResourceHandler) AppDataResourceHandler.create(appDataDirectory,
+                "/intro.mp4", Map.of("Origin", "https://example.com"));
+        fromOtherSite.cancel();
+        assertThat(fromOtherSite.getHeaders()).doesNotContainKey("Access-Control-Allow-Origin");
+    }
+}
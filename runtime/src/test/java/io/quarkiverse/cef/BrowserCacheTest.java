@@ -0,0 +1,25 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BrowserCacheTest {
+
+    @Test
+    public void testDeleteStaleVersions(@TempDir Path cacheRoot) throws Exception {
+        Path current = Files.createDirectories(cacheRoot.resolve("current"));
+        Files.writeString(current.resolve("Cookies"), "current");
+        Path stale = Files.createDirectories(cacheRoot.resolve("stale").resolve("Code Cache").resolve("js"));
+        Files.writeString(stale.resolve("index"), "stale");
+
+        BrowserCache.deleteStaleVersions(cacheRoot, "current");
+
+        assertThat(current.resolve("Cookies")).hasContent("current");
+        assertThat(cacheRoot.resolve("stale")).doesNotExist();
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class BrowserPoolTest {
+
+    private static void awaitSize(List<String> browsers, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (browsers.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testTakenBrowsersAreReplaced() throws Exception {
+        AtomicInteger browserCount = new AtomicInteger();
+        List<String> createdBrowsers = new CopyOnWriteArrayList<>();
+        List<String> disposedBrowsers = new CopyOnWriteArrayList<>();
+        BrowserPool<String> browserPool = new BrowserPool<>(page -> {
+            String browser = page + "#" + browserCount.incrementAndGet();
+            createdBrowsers.add(browser);
+            return browser;
+        }, disposedBrowsers::add, List.of("/index.html", "/settings.html"), 2);
+        browserPool.fill();
+        awaitSize(createdBrowsers, 4);
+
+        assertThat(browserPool.take("/unknown.html")).isNull();
+        String browser = browserPool.take("/settings.html");
+        assertThat(browser).startsWith("/settings.html#");
+        awaitSize(createdBrowsers, 5);
+        assertThat(createdBrowsers).hasSize(5);
+        assertThat(createdBrowsers.get(4)).startsWith("/settings.html#");
+
+        browserPool.close();
+        assertThat(disposedBrowsers).hasSize(4).doesNotContain(browser);
+        assertThat(browserPool.take("/index.html")).isNull();
+    }
+}
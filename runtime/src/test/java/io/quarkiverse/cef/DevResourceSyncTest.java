@@ -0,0 +1,41 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DevResourceSyncTest {
+
+    @Test
+    public void testChangedResourcesAreReported(@TempDir Path resourceDirectory) throws Exception {
+        Path nestedDirectory = Files.createDirectories(resourceDirectory.resolve("ui").resolve("css"));
+        Files.writeString(resourceDirectory.resolve("ui").resolve("index.html"), "<html></html>");
+        Files.writeString(resourceDirectory.resolve("other.txt"), "other");
+
+        BlockingQueue<Map<String, Path>> changes = new LinkedBlockingQueue<>();
+        try (DevResourceSync devResourceSync = new DevResourceSync(List.of(resourceDirectory), "/ui", changes::add)) {
+            devResourceSync.start();
+
+            Path styleSheet = nestedDirectory.resolve("style.css");
+            Files.writeString(styleSheet, "body { margin: 0 }");
+            Map<String, Path> changedResources = changes.poll(30, TimeUnit.SECONDS);
+            assertThat(changedResources).containsEntry("/ui/css/style.css", styleSheet);
+
+            // Files outside the resource root are not watched
+            Files.writeString(resourceDirectory.resolve("other.txt"), "changed");
+            Path indexPage = resourceDirectory.resolve("ui").resolve("index.html");
+            Files.writeString(indexPage, "<html><body></body></html>");
+            changedResources = changes.poll(30, TimeUnit.SECONDS);
+            assertThat(changedResources).containsOnlyKeys("/ui/index.html");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyResourceExtractorTest {
+
+    @Test
+    public void testEveryResourceIsExtractedOnce() throws Exception {
+        Map<String, AtomicInteger> resourceToExtractionCountMap = new ConcurrentHashMap<>();
+        LazyResourceExtractor lazyResourceExtractor = new LazyResourceExtractor(resource -> {
+            resourceToExtractionCountMap.computeIfAbsent(resource, key -> new AtomicInteger()).incrementAndGet();
+            return resource.length();
+        });
+        List<String> resources = List.of("/ui/a.js", "/ui/bb.js", "/ui/ccc.js");
+        lazyResourceExtractor.defer(resources);
+        assertThat(lazyResourceExtractor.isDeferred("/ui/a.js")).isTrue();
+        assertThat(lazyResourceExtractor.isDeferred("/ui/index.html")).isFalse();
+
+        // Requested by the browser before the prefetch starts
+        lazyResourceExtractor.ensureExtracted("/ui/a.js");
+        assertThat(lazyResourceExtractor.isDeferred("/ui/a.js")).isFalse();
+
+        long prefetchedBytes = lazyResourceExtractor.prefetch(2).get(5, TimeUnit.SECONDS);
+        assertThat(prefetchedBytes).isEqualTo("/ui/bb.js".length() + "/ui/ccc.js".length());
+        assertThat(resourceToExtractionCountMap).containsOnlyKeys(resources);
+        assertThat(resourceToExtractionCountMap.values()).allMatch(count -> count.get() == 1);
+    }
+}
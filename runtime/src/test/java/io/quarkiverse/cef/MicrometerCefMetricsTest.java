@@ -0,0 +1,35 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerCefMetricsTest {
+
+    @Test
+    public void testPagesOutsideTheApplicationShareATag() throws Exception {
+        MicrometerCefMetrics metrics = new MicrometerCefMetrics();
+        metrics.meterRegistry = new SimpleMeterRegistry();
+        metrics.bindProjectResources(Map.of("quarkus-app://app/index.html", "/ui/index.html")::get);
+
+        metrics.recordPageLoad("quarkus-app://app/index.html", 0, 1000);
+        metrics.recordPageLoad("https://example.com/a", 200, 1000);
+        metrics.recordPageLoad("https://example.com/b", 200, 1000);
+        metrics.recordPagePerformance(PagePerformanceMetrics.fromJson("https://example.com/c",
+                new ObjectMapper().readTree("{\"domNodes\": 42}")));
+
+        assertThat(metrics.meterRegistry.get(MicrometerCefMetrics.PREFIX + "page.load")
+                .tag("page", "/ui/index.html").timer().count()).isEqualTo(1);
+        assertThat(metrics.meterRegistry.get(MicrometerCefMetrics.PREFIX + "page.load")
+                .tag("page", MicrometerCefMetrics.OTHER_PAGE).timer().count()).isEqualTo(2);
+        assertThat(metrics.meterRegistry.get(MicrometerCefMetrics.PREFIX + "page.dom.nodes")
+                .tag("page", MicrometerCefMetrics.OTHER_PAGE).gauge().value()).isEqualTo(42);
+        assertThat(metrics.meterRegistry.getMeters()).allMatch(meter -> meter.getId().getTag("url") == null);
+    }
+}
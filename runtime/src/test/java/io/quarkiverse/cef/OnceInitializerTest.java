@@ -0,0 +1,68 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class OnceInitializerTest {
+
+    @Test
+    public void testInitializationRunsOnce() {
+        AtomicInteger runs = new AtomicInteger();
+        OnceInitializer initializer = new OnceInitializer(runs::incrementAndGet);
+        assertThat(initializer.getFuture()).isNull();
+
+        initializer.ensureInitialized();
+        initializer.ensureInitialized();
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(initializer.getFuture()).isCompleted();
+    }
+
+    @Test
+    public void testErrorCompletesTheFuture() {
+        AtomicInteger runs = new AtomicInteger();
+        OnceInitializer initializer = new OnceInitializer(() -> {
+            runs.incrementAndGet();
+            throw new UnsatisfiedLinkError("no jcef in java.library.path");
+        });
+
+        assertThatThrownBy(initializer::ensureInitialized).isInstanceOf(UnsatisfiedLinkError.class);
+        assertThat(initializer.getFuture()).isCompletedExceptionally();
+        // Later callers fail instead of waiting forever
+        assertThatThrownBy(initializer::ensureInitialized).isInstanceOf(UnsatisfiedLinkError.class);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWaitingCallersSeeTheError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        OnceInitializer initializer = new OnceInitializer(() -> {
+            started.countDown();
+            try {
+                fail.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new NoClassDefFoundError("org/cef/CefApp");
+        });
+        CompletableFuture<Void> initializing = CompletableFuture.runAsync(initializer::ensureInitialized);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(initializer::ensureInitialized);
+
+        fail.countDown();
+
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NoClassDefFoundError.class);
+        assertThatThrownBy(() -> initializing.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NoClassDefFoundError.class);
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class PagePerformanceCollectorTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testMissingMetricsAreReportedAsUnavailable() throws Exception {
+        PagePerformanceMetrics metrics = PagePerformanceMetrics.fromJson("quarkus-app://app/index.html",
+                objectMapper.readTree("{\"domNodes\": 42, \"load\": -1, \"longTaskCount\": 2, \"longTaskTotal\": 180.5,"
+                        + " \"longestTask\": 120.25}"));
+
+        assertThat(metrics.getUrl()).isEqualTo("quarkus-app://app/index.html");
+        assertThat(metrics.getDomNodeCount()).isEqualTo(42);
+        assertThat(metrics.getJsHeapUsedBytes()).isEqualTo(-1);
+        assertThat(metrics.getLoadMillis()).isEqualTo(-1);
+        assertThat(metrics.getLongTaskCount()).isEqualTo(2);
+        assertThat(metrics.getLongTaskTotalMillis()).isEqualTo(180.5);
+        assertThat(metrics.getLongestTaskMillis()).isEqualTo(120.25);
+    }
+
+    @Test
+    public void testEntriesAreConvertedToTraceEvents() throws Exception {
+        PagePerformanceCollector collector = new PagePerformanceCollector();
+        collector.objectMapper = objectMapper;
+
+        JsonNode traceEvents = collector.toTraceEvents("quarkus-app://app/index.html", objectMapper.readTree(
+                "{\"timeOrigin\": 1000.5, \"entries\": ["
+                        + "{\"name\": \"self\", \"entryType\": \"longtask\", \"startTime\": 10, \"duration\": 75.25},"
+                        + "{\"name\": \"ready\", \"entryType\": \"mark\", \"startTime\": 20, \"duration\": 0}]}"))
+                .get("traceEvents");
+
+        assertThat(traceEvents).hasSize(3);
+        assertThat(traceEvents.get(0).get("ph").asText()).isEqualTo("M");
+        assertThat(traceEvents.get(0).get("args").get("name").asText()).isEqualTo("quarkus-app://app/index.html");
+        JsonNode longTask = traceEvents.get(1);
+        assertThat(longTask.get("cat").asText()).isEqualTo("longtask");
+        assertThat(longTask.get("ph").asText()).isEqualTo("X");
+        assertThat(longTask.get("ts").asLong()).isEqualTo(1010500);
+        assertThat(longTask.get("dur").asLong()).isEqualTo(75250);
+        JsonNode mark = traceEvents.get(2);
+        assertThat(mark.get("name").asText()).isEqualTo("ready");
+        assertThat(mark.get("ph").asText()).isEqualTo("i");
+        assertThat(mark.has("dur")).isFalse();
+    }
+}
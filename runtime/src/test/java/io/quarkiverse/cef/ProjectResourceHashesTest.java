@@ -0,0 +1,99 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProjectResourceHashesTest {
+    private static final String HASH_A = "aa".repeat(64);
+    private static final String HASH_B = "bb".repeat(64);
+    private static final String HASH_C = "cc".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    private static ProjectResourceHashes of(Map<String, String> projectResourcePathToHashMap) {
+        return new ProjectResourceHashes(projectResourcePathToHashMap,
+                ProjectResourceHashes.computeAggregateHash(projectResourcePathToHashMap));
+    }
+
+    @Test
+    public void testChangedResources() {
+        ProjectResourceHashes oldHashes = of(Map.of(
+                "/ui/index.html", HASH_A,
+                "/ui/removed.js", HASH_B,
+                "/ui/style.css", HASH_C));
+        ProjectResourceHashes newHashes = of(Map.of(
+                "/ui/added.js", HASH_B,
+                "/ui/index.html", HASH_A,
+                "/ui/style.css", HASH_A));
+
+        assertThat(newHashes.getChangedResources(oldHashes))
+                .containsExactly("/ui/added.js", "/ui/removed.js", "/ui/style.css");
+        assertThat(newHashes.getChangedResources(newHashes)).isEmpty();
+    }
+
+    @Test
+    public void testAggregateHash() {
+        Map<String, String> hashes = Map.of("/ui/index.html", HASH_A, "/ui/style.css", HASH_C);
+        assertThat(ProjectResourceHashes.computeAggregateHash(hashes))
+                .isEqualTo(ProjectResourceHashes.computeAggregateHash(Map.of("/ui/style.css", HASH_C,
+                        "/ui/index.html", HASH_A)))
+                .isNotEqualTo(ProjectResourceHashes.computeAggregateHash(Map.of("/ui/index.html", HASH_A,
+                        "/ui/style.css", HASH_B)));
+    }
+
+    @Test
+    public void testManifestRoundTrip() throws IOException {
+        ProjectResourceHashes hashes = of(Map.of("/ui/index.html", HASH_A, "/ui/style.css", HASH_C));
+        Path manifest = tempDir.resolve("manifest");
+        ResourceManifest.write(manifest, hashes);
+
+        assertThat(ResourceManifest.hasAggregateDigest(manifest, hashes.aggregateDigest)).isTrue();
+        assertThat(ResourceManifest.hasAggregateDigest(tempDir.resolve("missing"), hashes.aggregateDigest)).isFalse();
+
+        ProjectResourceHashes read = ResourceManifest.read(manifest);
+        assertThat(read.getProjectResourcePathToHashMap()).isEqualTo(hashes.getProjectResourcePathToHashMap());
+        assertThat(read.getAggregateHash()).isEqualTo(hashes.getAggregateHash());
+        assertThat(ResourceManifest.fromBytes(ByteBuffer.wrap(new byte[] { 1, 2, 3 }))).isNull();
+    }
+
+    @Test
+    public void testManifestOfAnOlderVersionIsIgnored() throws IOException {
+        ProjectResourceHashes hashes = of(Map.of("/ui/index.html", HASH_A));
+        Path manifest = tempDir.resolve("manifest");
+        ByteBuffer bytes = ByteBuffer.wrap(ResourceManifest.toBytes(hashes));
+        bytes.putInt(4, ResourceManifest.VERSION - 1);
+        Files.write(manifest, bytes.array());
+
+        assertThat(ResourceManifest.hasAggregateDigest(manifest, hashes.aggregateDigest)).isFalse();
+        assertThat(ResourceManifest.read(manifest)).isNull();
+    }
+
+    @Test
+    public void testRecordedManifestRoundTrip() {
+        Map<String, String> resourceToHashMap = Map.of(
+                "/ui/app/main.js", HASH_A,
+                "/ui/app/main.css", HASH_B,
+                "/ui/app/\u00e9t\u00e9.html", HASH_C,
+                "/ui/index.html", HASH_A);
+        ProjectResourceHashes hashes = of(resourceToHashMap);
+
+        ProjectResourceHashes read = RecordedResourceManifest
+                .fromBytes(ByteBuffer.wrap(RecordedResourceManifest.toBytes(resourceToHashMap)));
+        assertThat(read.getSortedProjectResources()).containsExactly("/ui/app/main.css", "/ui/app/main.js",
+                "/ui/app/\u00e9t\u00e9.html", "/ui/index.html");
+        assertThat(read.getHash("/ui/app/\u00e9t\u00e9.html")).isEqualTo(HASH_C);
+        assertThat(read.getHash("/ui/app/main")).isNull();
+        assertThat(read.getProjectResources()).contains("/ui/index.html").hasSize(4);
+        assertThat(read.getAggregateHash()).isEqualTo(hashes.getAggregateHash());
+        assertThat(read.getChangedResources(hashes)).isEmpty();
+    }
+}
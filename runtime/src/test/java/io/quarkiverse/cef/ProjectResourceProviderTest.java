@@ -0,0 +1,130 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.cef.misc.IntRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.runtime.configuration.MemorySize;
+
+public class ProjectResourceProviderTest {
+    private static final String RESOURCE = "/ui/app.js";
+    private static final String HASH = "a".repeat(128);
+    private static final String CONTENTS = "console.log('compressed');";
+
+    @TempDir
+    Path tempDir;
+
+    private final ProjectResourceProvider projectResourceProvider = new ProjectResourceProvider();
+    private ClassLoader contextClassLoader;
+    private byte[] compressedContents;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(CONTENTS.getBytes(StandardCharsets.UTF_8));
+        }
+        compressedContents = compressed.toByteArray();
+
+        // The classpath keeps the original, as in the application jar
+        Path classpathDirectory = tempDir.resolve("classes");
+        Path originalFile = classpathDirectory.resolve(RESOURCE.substring(1));
+        Files.createDirectories(originalFile.getParent());
+        Files.writeString(originalFile, CONTENTS);
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+        // Like the Quarkus class loader, accepts resource names with a leading slash
+        Thread.currentThread().setContextClassLoader(
+                new URLClassLoader(new URL[] { classpathDirectory.toUri().toURL() }, contextClassLoader) {
+                    @Override
+                    public URL getResource(String name) {
+                        return super.getResource(name.startsWith("/") ? name.substring(1) : name);
+                    }
+                });
+
+        Map<String, String> resourceToHashMap = Map.of(RESOURCE, HASH);
+        projectResourceProvider.cefRuntimeConfig = new CefRuntimeConfig();
+        projectResourceProvider.cefRuntimeConfig.resourceCacheSize = new MemorySize(BigInteger.valueOf(1 << 20));
+        projectResourceProvider.projectResourceHashes = new ProjectResourceHashes(resourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(resourceToHashMap));
+        projectResourceProvider.compressedProjectResources = new CompressedProjectResources(Set.of(RESOURCE));
+        projectResourceProvider.transformedProjectResources = new TransformedProjectResources(Set.of());
+        projectResourceProvider.resourceRoot = "/ui";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+
+    // Packed as the build does, with only the compressed variant of the resource
+    private void useArchive() throws IOException {
+        String compressedResource = CompressedProjectResources.getCompressedResource(RESOURCE);
+        SortedMap<String, Path> resourceToFileMap = new TreeMap<>();
+        resourceToFileMap.put(compressedResource, Files.write(tempDir.resolve("app.js.gz"), compressedContents));
+        Path archiveFile = tempDir.resolve("resources.pack");
+        ResourceArchive.write(resourceToFileMap, Map.of(compressedResource, HASH), archiveFile);
+        projectResourceProvider.useArchive(ResourceArchive.open(archiveFile));
+    }
+
+    private static byte[] readBody(BufferResourceHandler handler) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8];
+        IntRef bytesRead = new IntRef();
+        while (handler.readResponse(buffer, buffer.length, bytesRead, null)) {
+            body.write(buffer, 0, bytesRead.get());
+        }
+        return body.toByteArray();
+    }
+
+    @Test
+    public void testCompressedVariantIsServedIfAccepted() throws IOException {
+        useArchive();
+        BufferResourceHandler handler = (BufferResourceHandler) projectResourceProvider.getResourceHandler("/app.js",
+                Map.of("accept-encoding", "gzip, deflate"));
+
+        assertThat(handler.getHeaders()).containsEntry("Content-Encoding", "gzip");
+        assertThat(readBody(handler)).isEqualTo(compressedContents);
+    }
+
+    @Test
+    public void testCompressedVariantIsInflatedWithoutCaching() throws IOException {
+        useArchive();
+        for (int i = 0; i < 2; i++) {
+            BufferResourceHandler handler = (BufferResourceHandler) projectResourceProvider.getResourceHandler(
+                    "/app.js", Map.of());
+
+            assertThat(handler.getHeaders()).doesNotContainKey("Content-Encoding").containsEntry("Vary",
+                    "Accept-Encoding");
+            assertThat(new String(readBody(handler), StandardCharsets.UTF_8)).isEqualTo(CONTENTS);
+        }
+        assertThat(projectResourceProvider.getResourceCache().get(RESOURCE)).isNull();
+    }
+
+    @Test
+    public void testOriginalIsServedFromTheClasspathWithoutArchive() {
+        BufferResourceHandler handler = (BufferResourceHandler) projectResourceProvider.getResourceHandler("/app.js",
+                Map.of("accept-encoding", "gzip"));
+
+        assertThat(handler.getHeaders()).doesNotContainKeys("Content-Encoding", "Vary");
+        assertThat(new String(readBody(handler), StandardCharsets.UTF_8)).isEqualTo(CONTENTS);
+    }
+}
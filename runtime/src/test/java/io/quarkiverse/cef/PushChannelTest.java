@@ -0,0 +1,153 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.cef.browser.CefBrowser;
+import org.cef.callback.CefQueryCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+public class PushChannelTest {
+    private static final String PUSH_PREFIX = "window.quarkus.__push(";
+    // Long enough for several push intervals to pass
+    private static final long QUIET_MILLIS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<String> scripts = new LinkedBlockingQueue<>();
+    private PushChannelDispatcher dispatcher;
+    private FramePushChannels framePushChannels;
+
+    @BeforeEach
+    public void setUp() {
+        dispatcher = new PushChannelDispatcher();
+        dispatcher.cefRuntimeConfig = new CefRuntimeConfig();
+        dispatcher.cefRuntimeConfig.pushInterval = Duration.ofMillis(50);
+        dispatcher.objectMapper = objectMapper;
+        CefBrowser browser = (CefBrowser) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { CefBrowser.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("executeJavaScript")) {
+                        scripts.add((String) args[0]);
+                    }
+                    return null;
+                });
+        framePushChannels = new FramePushChannels(browser, dispatcher);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Wait for the next batch and check its sequence number.
+     *
+     * @return The values of the batch, by channel name and key.
+     */
+    private JsonNode nextBatch(long expectedSequence) throws Exception {
+        String script = scripts.poll(5, TimeUnit.SECONDS);
+        assertThat(script).startsWith(PUSH_PREFIX).endsWith(");");
+        String arguments = script.substring(PUSH_PREFIX.length(), script.length() - ");".length());
+        int separator = arguments.lastIndexOf(", ");
+        assertThat(Long.parseLong(arguments.substring(separator + 2))).isEqualTo(expectedSequence);
+        return objectMapper.readTree(arguments.substring(0, separator));
+    }
+
+    private void assertNoBatch() throws InterruptedException {
+        assertThat(scripts.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    public void testValuesAreCoalescedPerKey() throws Exception {
+        PushChannel prices = framePushChannels.getChannel("prices");
+        PushChannel status = framePushChannels.getChannel("status");
+        prices.publish("a", 1);
+        prices.publish("a", 2);
+        prices.publish("b", 3);
+        status.publish("ready");
+
+        JsonNode batch = nextBatch(0);
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.get("prices").size()).isEqualTo(2);
+        assertThat(batch.get("prices").get("a").asInt()).isEqualTo(2);
+        assertThat(batch.get("prices").get("b").asInt()).isEqualTo(3);
+        assertThat(batch.get("status").get(PushChannel.DEFAULT_KEY).asText()).isEqualTo("ready");
+        assertThat(framePushChannels.getChannel("prices")).isSameAs(prices);
+    }
+
+    @Test
+    public void testBatchesWaitForAcknowledgement() throws Exception {
+        PushChannel prices = framePushChannels.getChannel("prices");
+        prices.publish("a", 1);
+        nextBatch(0);
+
+        prices.publish("a", 2);
+        prices.publish("a", 3);
+        assertNoBatch();
+        // Acknowledgements of other batches are ignored
+        framePushChannels.acknowledge(5);
+        assertNoBatch();
+
+        framePushChannels.acknowledge(0);
+        JsonNode batch = nextBatch(1);
+        assertThat(batch.get("prices").get("a").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    public void testUnacknowledgedBatchTimesOut() throws Exception {
+        PushChannel prices = framePushChannels.getChannel("prices");
+        prices.publish("a", 1);
+        nextBatch(0);
+        long sent = System.nanoTime();
+
+        prices.publish("a", 2);
+        JsonNode batch = nextBatch(1);
+        assertThat(System.nanoTime() - sent).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(900));
+        assertThat(batch.get("prices").get("a").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPublishAllStopsWhenCancelled() throws Exception {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        Cancellable cancellable = framePushChannels.getChannel("counter").publishAll(processor);
+        processor.onNext(1);
+        assertThat(nextBatch(0).get("counter").get(PushChannel.DEFAULT_KEY).asInt()).isEqualTo(1);
+        framePushChannels.acknowledge(0);
+
+        cancellable.cancel();
+        processor.onNext(2);
+        assertNoBatch();
+    }
+
+    @Test
+    public void testMalformedAcknowledgementIsRejected() throws Exception {
+        CompletableFuture<String> failure = new CompletableFuture<>();
+        CefQueryCallback callback = (CefQueryCallback) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { CefQueryCallback.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("failure")) {
+                        failure.complete(args[0] + " " + args[1]);
+                    }
+                    return null;
+                });
+
+        assertThat(dispatcher.createMessageRouterHandler(new WindowRegistry())
+                .onQuery(null, null, 1, PushChannelDispatcher.ACKNOWLEDGEMENT_REQUEST_PREFIX + "x", false, callback))
+                .isTrue();
+        assertThat(failure.getNow(null)).startsWith("400 ");
+        assertThat(dispatcher.createMessageRouterHandler(new WindowRegistry())
+                .onQuery(null, null, 2, "P{}", false, callback)).isFalse();
+    }
+}
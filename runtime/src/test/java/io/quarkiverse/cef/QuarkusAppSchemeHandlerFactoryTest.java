@@ -0,0 +1,40 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class QuarkusAppSchemeHandlerFactoryTest {
+
+    @Test
+    public void testOnlyApplicationPagesAreAppUrls(@TempDir Path appResourcesDirectory) {
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl("quarkus-app://app/ui/index.html?tab=1", appResourcesDirectory))
+                .isTrue();
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl(
+                appResourcesDirectory.resolve("ui").resolve("index.html").toUri() + "#top", appResourcesDirectory))
+                .isTrue();
+
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl("quarkus-app://data/page.html", appResourcesDirectory))
+                .isFalse();
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl("https://example.com/", appResourcesDirectory)).isFalse();
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl(
+                appResourcesDirectory.resolve("..").resolve("app-data").resolve("page.html").toUri().toString(),
+                appResourcesDirectory)).isFalse();
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl("about:blank", appResourcesDirectory)).isFalse();
+        assertThat(QuarkusAppSchemeHandlerFactory.isAppUrl("not a url", appResourcesDirectory)).isFalse();
+    }
+
+    @Test
+    public void testAppUrlsAreMappedToProjectResources(@TempDir Path appResourcesDirectory) {
+        assertThat(QuarkusAppSchemeHandlerFactory.getAppResource("quarkus-app://app/index.html?tab=1",
+                appResourcesDirectory, "/ui/")).isEqualTo("/ui/index.html");
+        assertThat(QuarkusAppSchemeHandlerFactory.getAppResource(
+                appResourcesDirectory.resolve("ui").resolve("settings").resolve("index.html").toUri() + "#top",
+                appResourcesDirectory, "/ui")).isEqualTo("/ui/settings/index.html");
+        assertThat(QuarkusAppSchemeHandlerFactory.getAppResource("https://example.com/index.html",
+                appResourcesDirectory, "/ui")).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceArchiveTest {
+    private static final String INDEX_HASH = "ab".repeat(64);
+    private static final String SCRIPT_HASH = "cd".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    private final SortedMap<String, Path> resourceToFileMap = new TreeMap<>();
+    private final Map<String, String> resourceToHashMap = new HashMap<>();
+
+    private Path writeArchive() throws IOException {
+        Path index = Files.writeString(tempDir.resolve("index.html"), "<html></html>");
+        Path script = Files.writeString(tempDir.resolve("app.js"), "console.log('hi');");
+
+        resourceToFileMap.put("/ui/index.html", index);
+        resourceToFileMap.put("/ui/js/app.js", script);
+        resourceToHashMap.put("/ui/index.html", INDEX_HASH);
+        resourceToHashMap.put("/ui/js/app.js", SCRIPT_HASH);
+
+        Path archive = tempDir.resolve("build").resolve("resources.pack");
+        assertThat(ResourceArchive.write(resourceToFileMap, resourceToHashMap, archive)).isTrue();
+        return archive;
+    }
+
+    private static String asString(ByteBuffer buffer) {
+        byte[] out = new byte[buffer.remaining()];
+        buffer.get(out);
+        return new String(out, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testReadBack() throws IOException {
+        ResourceArchive archive = ResourceArchive.open(writeArchive());
+        assertThat(asString(archive.get("/ui/index.html"))).isEqualTo("<html></html>");
+        assertThat(asString(archive.get("/ui/js/app.js"))).isEqualTo("console.log('hi');");
+        assertThat(archive.get("/ui/missing.html")).isNull();
+    }
+
+    @Test
+    public void testHasSameHeader() throws IOException {
+        Path archive = writeArchive();
+        byte[] archiveBytes = Files.readAllBytes(archive);
+        assertThat(ResourceArchive.hasSameHeader(new ByteArrayInputStream(archiveBytes), archive)).isTrue();
+
+        archiveBytes[ResourceArchive.HEADER_LENGTH - 1] ^= 1;
+        assertThat(ResourceArchive.hasSameHeader(new ByteArrayInputStream(archiveBytes), archive)).isFalse();
+        assertThat(ResourceArchive.hasSameHeader(new ByteArrayInputStream(new byte[0]),
+                tempDir.resolve("missing.pack"))).isFalse();
+    }
+
+    @Test
+    public void testUnchangedArchiveIsNotRewritten() throws IOException {
+        Path archive = writeArchive();
+        assertThat(ResourceArchive.write(resourceToFileMap, resourceToHashMap, archive)).isFalse();
+
+        Files.writeString(resourceToFileMap.get("/ui/js/app.js"), "console.log('bye');");
+        resourceToHashMap.put("/ui/js/app.js", "ef".repeat(64));
+        assertThat(ResourceArchive.write(resourceToFileMap, resourceToHashMap, archive)).isTrue();
+        assertThat(asString(ResourceArchive.open(archive).get("/ui/js/app.js"))).isEqualTo("console.log('bye');");
+        try (Stream<Path> files = Files.list(archive.getParent())) {
+            assertThat(files).containsExactly(archive);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceStoreTest {
+    private static final String MANIFEST = ".manifest";
+
+    private static String hash(char c) {
+        return String.valueOf(c).repeat(128);
+    }
+
+    private static String install(ResourceStore resourceStore, Map<String, String> resourceToContentsMap,
+            Map<String, String> resourceToHashMap) throws Exception {
+        ProjectResourceHashes projectResourceHashes = new ProjectResourceHashes(resourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(resourceToHashMap));
+        String version = projectResourceHashes.getVersion();
+        for (Map.Entry<String, String> resourceToHash : resourceToHashMap.entrySet()) {
+            String resource = resourceToHash.getKey();
+            resourceStore.storeBlob(resourceToHash.getValue(),
+                    new ByteArrayInputStream(resourceToContentsMap.get(resource).getBytes(StandardCharsets.UTF_8)));
+            Path target = resourceStore.getVersionDirectory(version).resolve(resource.substring(1));
+            Files.createDirectories(target.getParent());
+            resourceStore.link(resourceToHash.getValue(), target);
+        }
+        ResourceManifest.write(resourceStore.getManifestPath(version), projectResourceHashes);
+        resourceStore.activate(version);
+        assertThat(resourceStore.isComplete(version, projectResourceHashes.aggregateDigest)).isTrue();
+        return version;
+    }
+
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.WAITING
+                && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    @Test
+    public void testBlobsAreSharedAndCollected(@TempDir Path installPath) throws Exception {
+        ResourceStore resourceStore = new ResourceStore(installPath, MANIFEST);
+
+        String first = install(resourceStore, Map.of("/ui/a.js", "a", "/ui/b.js", "b"),
+                Map.of("/ui/a.js", hash('a'), "/ui/b.js", hash('b')));
+        assertThat(resourceStore.getActiveVersion()).isEqualTo(first);
+        // An unchanged blob is not written again
+        assertThat(resourceStore.storeBlob(hash('a'), new ByteArrayInputStream(new byte[1]))).isZero();
+        Files.setLastModifiedTime(resourceStore.getManifestPath(first), FileTime.fromMillis(1000));
+
+        String second = install(resourceStore, Map.of("/ui/a.js", "a", "/ui/c.js", "c"),
+                Map.of("/ui/a.js", hash('a'), "/ui/c.js", hash('c')));
+        assertThat(resourceStore.getActiveVersion()).isEqualTo(second);
+        assertThat(resourceStore.getVersionDirectory(second).resolve("ui/a.js")).hasContent("a");
+        assertThat(resourceStore.getVersionDirectory(second).resolve("ui/c.js")).hasContent("c");
+
+        // Keep two versions: nothing is collected
+        resourceStore.collectGarbage(2);
+        assertThat(resourceStore.getBlobPath(hash('b'))).exists();
+        assertThat(resourceStore.getVersionDirectory(first)).exists();
+
+        // Keep one version: the first version and its unshared blob are collected
+        resourceStore.collectGarbage(1);
+        assertThat(resourceStore.getVersionDirectory(first)).doesNotExist();
+        assertThat(resourceStore.getBlobPath(hash('b'))).doesNotExist();
+        assertThat(resourceStore.getBlobPath(hash('a'))).exists();
+        assertThat(resourceStore.getVersionDirectory(second).resolve("ui/a.js")).hasContent("a");
+    }
+
+    @Test
+    public void testGarbageIsNotCollectedDuringAnInstall(@TempDir Path installPath) throws Exception {
+        ResourceStore resourceStore = new ResourceStore(installPath, MANIFEST);
+        String first = install(resourceStore, Map.of("/ui/a.js", "a"), Map.of("/ui/a.js", hash('a')));
+        Files.setLastModifiedTime(resourceStore.getManifestPath(first), FileTime.fromMillis(1000));
+
+        Map<String, String> resourceToHashMap = Map.of("/ui/d.js", hash('d'));
+        ProjectResourceHashes projectResourceHashes = new ProjectResourceHashes(resourceToHashMap,
+                ProjectResourceHashes.computeAggregateHash(resourceToHashMap));
+        String second = projectResourceHashes.getVersion();
+        Path target = resourceStore.getVersionDirectory(second).resolve("ui/d.js");
+        Thread collector = new Thread(() -> resourceStore.collectGarbage(1));
+        resourceStore.withLock(() -> {
+            // A version without a manifest and its blob, as left halfway through an install
+            resourceStore.storeBlob(hash('d'), new ByteArrayInputStream("d".getBytes(StandardCharsets.UTF_8)));
+            Files.createDirectories(target.getParent());
+            resourceStore.link(hash('d'), target);
+
+            collector.start();
+            awaitBlocked(collector);
+            assertThat(collector.isAlive()).isTrue();
+            assertThat(target).hasContent("d");
+            assertThat(resourceStore.getBlobPath(hash('d'))).exists();
+
+            ResourceManifest.write(resourceStore.getManifestPath(second), projectResourceHashes);
+            resourceStore.activate(second);
+            return null;
+        });
+        collector.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(collector.isAlive()).isFalse();
+        assertThat(resourceStore.getActiveVersion()).isEqualTo(second);
+        assertThat(resourceStore.isComplete(second, projectResourceHashes.aggregateDigest)).isTrue();
+        assertThat(target).hasContent("d");
+        // The previous version is collected once the install is done
+        assertThat(resourceStore.getVersionDirectory(first)).doesNotExist();
+        assertThat(resourceStore.getBlobPath(hash('a'))).doesNotExist();
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SharedLibraryCacheTest {
+
+    private static File install(File directory, AtomicInteger installCount) throws IOException {
+        Path library = directory.toPath().resolve("lib").resolve("libcef.so");
+        if (!Files.exists(library)) {
+            installCount.incrementAndGet();
+            Files.createDirectories(library.getParent());
+            Files.writeString(library, "libcef");
+        }
+        return directory;
+    }
+
+    @Test
+    public void testVersionIsInstalledOnceAndRepairedWhenModified(@TempDir Path root) throws Exception {
+        AtomicInteger installCount = new AtomicInteger();
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "84.3.8+gc8a556f")) {
+            File directory = cache.load(installDirectory -> install(installDirectory, installCount));
+            assertThat(directory.toPath()).isEqualTo(root.resolve("84.3.8_gc8a556f"));
+        }
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "84.3.8+gc8a556f")) {
+            cache.load(installDirectory -> install(installDirectory, installCount));
+        }
+        assertThat(installCount).hasValue(1);
+
+        Files.writeString(root.resolve("84.3.8_gc8a556f").resolve("lib").resolve("libcef.so"), "truncated");
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "84.3.8+gc8a556f")) {
+            cache.load(installDirectory -> install(installDirectory, installCount));
+        }
+        assertThat(installCount).hasValue(2);
+        assertThat(root.resolve("84.3.8_gc8a556f").resolve("lib").resolve("libcef.so")).hasContent("libcef");
+    }
+
+    @Test
+    public void testUnusedVersionsAreDeleted(@TempDir Path root) throws Exception {
+        AtomicInteger installCount = new AtomicInteger();
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "old")) {
+            cache.load(installDirectory -> install(installDirectory, installCount));
+        }
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "recent")) {
+            cache.load(installDirectory -> install(installDirectory, installCount));
+        }
+        Files.setLastModifiedTime(root.resolve("old" + SharedLibraryCache.INSTALLED_SUFFIX),
+                FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(60).toMillis()));
+
+        try (SharedLibraryCache cache = new SharedLibraryCache(root, "current")) {
+            cache.load(installDirectory -> install(installDirectory, installCount));
+            cache.collectGarbage(Duration.ofDays(30));
+        }
+        assertThat(root.resolve("old")).doesNotExist();
+        assertThat(root.resolve("old" + SharedLibraryCache.INSTALLED_SUFFIX)).doesNotExist();
+        assertThat(root.resolve("recent")).isDirectory();
+        assertThat(root.resolve("current")).isDirectory();
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class WindowRegistryTest {
+
+    @Test
+    public void testWhenAllClosed() {
+        WindowRegistry windowRegistry = new WindowRegistry();
+        assertThat(windowRegistry.whenAllClosed().toCompletableFuture()).isDone();
+
+        windowRegistry.onCreate(null);
+        windowRegistry.onCreate(null);
+        CompletableFuture<Void> allClosed = windowRegistry.whenAllClosed().toCompletableFuture();
+        assertThat(windowRegistry.getOpenWindowCount()).isEqualTo(2);
+        assertThat(allClosed).isNotDone();
+
+        windowRegistry.onClose(null);
+        assertThat(allClosed).isNotDone();
+        windowRegistry.onClose(null);
+        assertThat(allClosed).isDone();
+        assertThat(windowRegistry.getOpenWindowCount()).isZero();
+
+        windowRegistry.onCreate(null);
+        assertThat(windowRegistry.whenAllClosed().toCompletableFuture()).isNotDone();
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkiverse.cef;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WindowlessRenderHandlerTest {
+    ScheduledExecutorService scheduledExecutorService;
+
+    @BeforeEach
+    public void setUp() {
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduledExecutorService.shutdownNow();
+    }
+
+    private static ByteBuffer filled(int width, int height, byte value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4);
+        while (buffer.hasRemaining()) {
+            buffer.put(value);
+        }
+        return buffer.flip();
+    }
+
+    @Test
+    public void testOnlyDirtyRectsAreCopied() {
+        // A very high frame rate, so every paint is delivered immediately
+        WindowlessRenderHandler renderHandler = new WindowlessRenderHandler(4, 4, 1_000_000, scheduledExecutorService);
+        List<Byte> pixelSamples = new ArrayList<>();
+        List<Rectangle> dirtyRegions = new ArrayList<>();
+        renderHandler.addFrameConsumer(frame -> {
+            // Sample the top-left and bottom-right pixels
+            pixelSamples.add(frame.getPixels().get(0));
+            pixelSamples.add(frame.getPixels().get((4 * 4 - 1) * 4));
+            dirtyRegions.add(frame.getDirtyRegion());
+        });
+
+        // The first paint always copies the whole frame
+        renderHandler.onPaint(null, false, new Rectangle[] { new Rectangle(0, 0, 1, 1) }, filled(4, 4, (byte) 1), 4, 4);
+        assertThat(pixelSamples).containsExactly((byte) 1, (byte) 1);
+        assertThat(dirtyRegions).containsExactly(new Rectangle(0, 0, 4, 4));
+
+        renderHandler.onPaint(null, false, new Rectangle[] { new Rectangle(3, 3, 1, 1) }, filled(4, 4, (byte) 2), 4, 4);
+        assertThat(pixelSamples).containsExactly((byte) 1, (byte) 1, (byte) 1, (byte) 2);
+        assertThat(dirtyRegions).last().isEqualTo(new Rectangle(3, 3, 1, 1));
+    }
+
+    @Test
+    public void testPaintsAreCoalescedToFrameRate() throws Exception {
+        WindowlessRenderHandler renderHandler = new WindowlessRenderHandler(4, 4, 1, scheduledExecutorService);
+        List<Rectangle> dirtyRegions = new ArrayList<>();
+        renderHandler.addFrameConsumer(frame -> {
+            synchronized (dirtyRegions) {
+                dirtyRegions.add(frame.getDirtyRegion());
+                dirtyRegions.notifyAll();
+            }
+        });
+
+        renderHandler.onPaint(null, false, new Rectangle[] { new Rectangle(0, 0, 4, 4) }, filled(4, 4, (byte) 1), 4, 4);
+        renderHandler.onPaint(null, false, new Rectangle[] { new Rectangle(0, 0, 1, 1) }, filled(4, 4, (byte) 2), 4, 4);
+        renderHandler.onPaint(null, false, new Rectangle[] { new Rectangle(2, 2, 1, 1) }, filled(4, 4, (byte) 3), 4, 4);
+        synchronized (dirtyRegions) {
+            assertThat(dirtyRegions).hasSize(1);
+            if (dirtyRegions.size() < 2) {
+                dirtyRegions.wait(5000);
+            }
+        }
+        assertThat(dirtyRegions).last().isEqualTo(new Rectangle(0, 0, 3, 3));
+    }
+}